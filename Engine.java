@@ -4,12 +4,24 @@ package dev.main;
 import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.DisplayMode;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Toolkit;
 import java.awt.image.BufferStrategy; 
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
 
+import dev.main.input.MouseInput;
+import dev.main.render.RenderSnapshot;
+import dev.main.render.Renderer;
+import dev.main.render.SnapshotBuffer;
+import dev.main.render.SnapshotBuilder;
+import dev.main.state.GameLogic;
+import dev.main.state.GameState;
+import dev.main.util.FramePacer;
+
 public class Engine extends Canvas implements Runnable {
 
     // Display constants
@@ -22,12 +34,39 @@ public class Engine extends Canvas implements Runnable {
     // Game loop constants
     public static final int UPS = 60;
     public static final int FPS = 120;
+    
+    // ★ NEW: Most ticks run per loop iteration after a hitch; the rest are dropped
+    // (prevents the spiral of death where catch-up makes the next frame later still)
+    public static final int MAX_CATCH_UP_STEPS = 5;
+    private static final int FALLBACK_REFRESH_RATE = 60;
+
+    // ★ NEW: Simulation and rendering on separate threads.
+    // The simulation thread publishes a RenderSnapshot after every tick batch;
+    // the render thread draws the newest one, so neither can stall the other.
+    // ★ UPDATED: Runtime option - -Drender.threaded=false draws from live state
+    // on the simulation thread (Renderer.render(g, alpha)) instead.
+    public static final boolean THREADED_RENDERING =
+        Boolean.parseBoolean(System.getProperty("render.threaded", "true"));
 
     // Engine state
-    private boolean isRunning = false;
+    private volatile boolean isRunning = false;
+    // ★ UPDATED: -Dengine.debug=true starts with the debug overlay (and stats) on;
+    // -Dengine.stats=true prints the once-a-second loop/jitter stats alone
+    private volatile boolean debugMode = Boolean.getBoolean("engine.debug");
+    private final boolean printStats = Boolean.getBoolean("engine.stats");
     private Thread thread;
+    private Thread renderThread;
     private BufferStrategy bufferStrategy;
     
+    // ★ NEW: Guards live GameState/UI between the simulation and render threads
+    private final Object simulationLock = new Object();
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+    private final SnapshotBuilder snapshotBuilder = new SnapshotBuilder();
+    
+    // ★ NEW: Frame cap for the render loop (CAPPED = FPS, VSYNC = display refresh rate)
+    private final FramePacer framePacer = new FramePacer(FramePacer.Mode.CAPPED, FPS);
+    private int droppedTicks = 0;
+    
     // Input
     private MouseInput mouse;
     
@@ -66,13 +105,16 @@ public class Engine extends Canvas implements Runnable {
 
         // Initialize game
         gameSetup();
+        
+        applyFrameCapOption(System.getProperty("render.fps"));
     }
 
     private void gameSetup() { 
         // Initialize game systems
         gameState = new GameState();
         gameLogic = new GameLogic(gameState);
-        renderer = new Renderer(gameState);  // Renderer reads GameState
+        gameState.setGameLogic(gameLogic);
+        renderer = new Renderer(gameState, this);  // Renderer reads GameState
         
         System.out.println("Game initialized!");
     }
@@ -86,13 +128,23 @@ public class Engine extends Canvas implements Runnable {
             if (stats.hp < 0) stats.hp = stats.maxHp;  // Reset when dead
         }
         */
-        // Process input first
-        handleInput();
-        
-        // Then update game logic
-        gameLogic.update(delta);
-        
-        
+        synchronized (simulationLock) {
+            // Process input first
+            handleInput();
+            
+            // Then update game logic
+            gameLogic.update(delta);
+        }
+    }
+    
+    /**
+     * ★ NEW: Capture the current state for the render thread
+     */
+    private void publishSnapshot() {
+        synchronized (simulationLock) {
+            snapshotBuilder.capture(gameState, snapshotBuffer.getWriteBuffer());
+        }
+        snapshotBuffer.publish();
     }
     
     private void handleInput() {
@@ -105,13 +157,13 @@ public class Engine extends Canvas implements Runnable {
             float worldY = screenY + gameState.getCameraY();
             
             // Tell game logic to move player
-            gameLogic.movePlayerTo(worldX, worldY);
+            gameLogic.movePlayerTo(worldX, worldY, false);
             
             mouse.resetPressed();  // Clear the click
         }
     }
 
-    public void render() {
+    public void render(float alpha) {
         Graphics2D g = (Graphics2D) bufferStrategy.getDrawGraphics();
         
         // Clear screen
@@ -119,21 +171,43 @@ public class Engine extends Canvas implements Runnable {
         g.fillRect(0, 0, WIDTH, HEIGHT);
          
         // Render game world
-        renderer.render(g);
+        if (THREADED_RENDERING) {
+            RenderSnapshot snapshot = snapshotBuffer.acquireLatest();
+            if (snapshot != null) {
+                renderer.render(g, snapshot, snapshotAlpha(snapshot), simulationLock);
+            }
+        } else {
+            renderer.render(g, alpha);
+        }
         
         g.dispose();
         bufferStrategy.show();
+        
+        if (framePacer.getMode() == FramePacer.Mode.VSYNC) {
+            Toolkit.getDefaultToolkit().sync();  // flush the X11 pipeline so frames line up
+        }
+    }
+    
+    /**
+     * ★ NEW: Render thread's equivalent of deltaU - time since the snapshot's
+     * tick, in ticks. The snapshot is drawn one tick behind, blending toward it.
+     */
+    private float snapshotAlpha(RenderSnapshot snapshot) {
+        double sinceCapture = System.nanoTime() - snapshot.captureNanos;
+        double alpha = sinceCapture / (1_000_000_000.0 / UPS);
+        return (float)Math.max(0.0, Math.min(1.0, alpha));
     }
     
          
     @Override
     public void run() {
         final double timePerUpdate = 1_000_000_000.0 / UPS;
-        final double timePerFrame = 1_000_000_000.0 / FPS;
+        
+        // Threaded: this loop only ticks, paced at UPS. Otherwise it also draws, paced by the frame cap.
+        FramePacer pacer = THREADED_RENDERING ? new FramePacer(FramePacer.Mode.CAPPED, UPS) : framePacer;
 
         long previousTime = System.nanoTime();
         double deltaU = 0;
-        double deltaF = 0;
 
         long timer = System.currentTimeMillis();
         int frames = 0;
@@ -145,43 +219,125 @@ public class Engine extends Canvas implements Runnable {
             previousTime = currentTime;
 
             deltaU += elapsed / timePerUpdate;
-            deltaF += elapsed / timePerFrame;
 
             // Fixed update loop - game logic runs at exactly UPS rate
-            while (deltaU >= 1) { 
+            int steps = 0;
+            while (deltaU >= 1 && steps < MAX_CATCH_UP_STEPS) { 
                 update(1f / UPS);
                 updates++;
                 deltaU--;
+                steps++;
             }
-
-            // Render loop - renders as fast as FPS allows
-            if (deltaF >= 1) {
-                render();
+            
+            // ★ NEW: Still behind after max catch-up - drop whole ticks, keep the fraction
+            if (deltaU >= 1) {
+                droppedTicks += (int)deltaU;
+                deltaU -= (int)deltaU;
+            }
+            
+            if (THREADED_RENDERING) {
+                if (steps > 0) {
+                    publishSnapshot();
+                }
+            } else {
+                render((float)deltaU);  // ★ NEW: blend between ticks
                 frames++;
-                deltaF--;
             }
 
-            // Prevent CPU maxing
-            try {
-                Thread.sleep(1);
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            pacer.sync();
 
             // Debug output
             if (System.currentTimeMillis() - timer >= 1000) {
                 timer += 1000;
-               // System.out.println("FPS: " + frames + " | UPS: " + updates);
+                if (debugMode || printStats) {
+                    System.out.println((THREADED_RENDERING ? "UPS: " + updates : "FPS: " + frames + " | UPS: " + updates)
+                                       + " | dropped ticks: " + droppedTicks + " | " + pacer.getStatsString());
+                }
+                pacer.resetStats();
                 frames = 0;
                 updates = 0;
             }
         }
     }
 
+    /**
+     * ★ NEW: Render thread loop - draws the newest published snapshot, paced by the frame cap
+     */
+    private void renderLoop() {
+        long timer = System.currentTimeMillis();
+        int frames = 0;
+
+        while (isRunning) {
+            render(0f);  // alpha comes from the snapshot
+            frames++;
+            
+            framePacer.sync();
+
+            if (System.currentTimeMillis() - timer >= 1000) {
+                timer += 1000;
+                if (debugMode || printStats) {
+                    System.out.println("FPS: " + frames + " | " + framePacer.getStatsString());
+                }
+                framePacer.resetStats();
+                frames = 0;
+            }
+        }
+    }
+    
+    /**
+     * ★ NEW: Choose the frame cap. Rate is ignored for UNCAPPED and VSYNC.
+     */
+    public void setFrameCap(FramePacer.Mode mode, int rate) {
+        int target = rate;
+        if (mode == FramePacer.Mode.VSYNC) {
+            target = getDisplayRefreshRate();
+        }
+        framePacer.setTarget(mode, target);
+        System.out.println("Frame cap: " + mode + (mode == FramePacer.Mode.UNCAPPED ? "" : " @ " + target + " Hz"));
+    }
+    
+    /**
+     * ★ NEW: -Drender.fps=vsync | uncapped | <rate>. Unset keeps the FPS cap.
+     */
+    private void applyFrameCapOption(String option) {
+        if (option == null || option.isEmpty()) return;
+        
+        switch (option.toLowerCase()) {
+            case "vsync":
+                setFrameCap(FramePacer.Mode.VSYNC, 0);
+                break;
+            case "uncapped":
+                setFrameCap(FramePacer.Mode.UNCAPPED, 0);
+                break;
+            default:
+                try {
+                    setFrameCap(FramePacer.Mode.CAPPED, Integer.parseInt(option));
+                } catch (NumberFormatException e) {
+                    System.err.println("Ignoring render.fps=" + option + " (expected vsync, uncapped or a rate)");
+                }
+        }
+    }
+    
+    private int getDisplayRefreshRate() {
+        GraphicsConfiguration config = getGraphicsConfiguration();
+        if (config != null) {
+            int refreshRate = config.getDevice().getDisplayMode().getRefreshRate();
+            if (refreshRate != DisplayMode.REFRESH_RATE_UNKNOWN) {
+                return refreshRate;
+            }
+        }
+        return FALLBACK_REFRESH_RATE;
+    }
+
     public void start() {
         if (!isRunning) {
             isRunning = true;
-            thread = new Thread(this);
+            if (THREADED_RENDERING) {
+                publishSnapshot();  // something to draw before the first tick
+                renderThread = new Thread(this::renderLoop, "Render");
+                renderThread.start();
+            }
+            thread = new Thread(this, "Simulation");
             thread.start();
         }
     }
@@ -191,6 +347,9 @@ public class Engine extends Canvas implements Runnable {
             isRunning = false;
             try {
                 thread.join();
+                if (renderThread != null) {
+                    renderThread.join();
+                }
             } catch (InterruptedException e) {
                 e.printStackTrace();
             }
@@ -202,6 +361,8 @@ public class Engine extends Canvas implements Runnable {
     public int getHeight() { return HEIGHT; }
     public MouseInput getMouse() { return mouse; }
     public GameState getGameState() { return gameState; }
+    public boolean isDebugMode() { return debugMode; }
+    public void setDebugMode(boolean debugMode) { this.debugMode = debugMode; }
     
     public static void main(String[] args) {
         new Engine().start();
@@ -0,0 +1,191 @@
+package dev.main;
+
+import dev.main.entity.Entity;
+import dev.main.entity.EntityFactory;
+import dev.main.entity.EntityType;
+import dev.main.entity.Portal;
+import dev.main.input.Position;
+import dev.main.state.GameLogic;
+import dev.main.state.GameState;
+import dev.main.state.World;
+import dev.main.tile.TileMap;
+import dev.main.util.FramePacer;
+
+/**
+ * ★ NEW: Simulation-only entry point - no window, canvas or UIManager.
+ *
+ * Drives GameState + GameLogic at a fixed tick rate for server-side zones
+ * and CI soak tests. speed scales wall-clock pacing (2 = twice real time,
+ * 0 = as fast as possible); game time always advances 1/tickRate per tick.
+ *
+ * Usage: HeadlessEngine [tickRate] [speed] [maxTicks]
+ *        HeadlessEngine --zones id1,id2,... [tickRate] [seconds]
+ *
+ * ★ NEW: --zones runs a multi-zone World instead (one tick thread per zone),
+ * walks a player through a portal into the second zone and reports the
+ * zone stats, hand-offs and failures. Exits 1 if a zone died or, with two
+ * or more zones, no hand-off happened.
+ */
+public class HeadlessEngine implements Runnable {
+
+    private final GameState gameState;
+    private final GameLogic gameLogic;
+    private final int tickRate;
+    private final FramePacer pacer;
+
+    private volatile boolean isRunning = false;
+    private long maxTicks = 0;  // 0 = run until stop()
+    private long ticks = 0;
+
+    public HeadlessEngine(int tickRate, float speed) {
+        // Image loading still goes through java.awt.image; never open a display
+        System.setProperty("java.awt.headless", "true");
+
+        this.tickRate = tickRate;
+        this.pacer = speed > 0
+            ? new FramePacer(FramePacer.Mode.CAPPED, tickRate * speed)
+            : new FramePacer(FramePacer.Mode.UNCAPPED, 0);
+
+        gameState = new GameState(true);
+        gameLogic = new GameLogic(gameState);
+        gameState.setGameLogic(gameLogic);
+
+        System.out.println("Headless simulation initialized! (" + tickRate + " ticks/s, speed "
+                           + (speed > 0 ? speed + "x" : "unpaced") + ")");
+    }
+
+    /**
+     * Advance the world by exactly n ticks on the calling thread (no pacing)
+     */
+    public void step(int n) {
+        float delta = 1f / tickRate;
+        for (int i = 0; i < n; i++) {
+            gameLogic.update(delta);
+            ticks++;
+        }
+    }
+
+    @Override
+    public void run() {
+        isRunning = true;
+        long timer = System.currentTimeMillis();
+        long lastTicks = ticks;
+
+        while (isRunning && (maxTicks <= 0 || ticks < maxTicks)) {
+            step(1);
+            pacer.sync();
+
+            if (System.currentTimeMillis() - timer >= 1000) {
+                timer += 1000;
+                System.out.println("TPS: " + (ticks - lastTicks) + " | ticks: " + ticks
+                                   + " | entities: " + gameState.getEntities().size()
+                                   + " | " + pacer.getStatsString());
+                System.out.println("  " + gameState.getMonsterPool().getStatsString());
+                System.out.println("  " + gameLogic.getSimLevelStatsString());
+                System.out.println("  " + gameState.getTimers().getStatsString());
+                pacer.resetStats();
+                lastTicks = ticks;
+            }
+        }
+        isRunning = false;
+        System.out.println("Headless simulation stopped after " + ticks + " ticks ("
+                           + gameState.getGameTime() + "s game time)");
+    }
+
+    public void stop() {
+        isRunning = false;
+    }
+
+    public void setMaxTicks(long maxTicks) {
+        this.maxTicks = maxTicks;
+    }
+
+    public long getTicks() { return ticks; }
+    public GameState getGameState() { return gameState; }
+    public GameLogic getGameLogic() { return gameLogic; }
+
+    /**
+     * ★ NEW: Load the zones, start them and print World stats once a second.
+     * @return false if a zone failed or the portal hand-off never happened
+     */
+    public static boolean runWorld(String[] zoneIds, int tickRate, int seconds) {
+        World world = new World(tickRate);
+        for (String id : zoneIds) {
+            world.addZone(id);
+        }
+
+        // Player starts on a portal of the first zone that leads to another
+        // loaded zone; the zones aren't ticking yet, so this is single-threaded
+        World.Zone first = world.getZone(zoneIds[0]);
+        Entity portal = zoneIds.length > 1 ? findPortalTo(world, first) : null;
+        if (zoneIds.length > 1 && portal == null) {
+            // Map data has no such portal - add one so the hand-off path still runs
+            portal = EntityFactory.createPortal("world_probe", 11 * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f,
+                                                3 * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f,
+                                                zoneIds[1], 11, 3);
+            first.getState().addEntity(portal);
+            System.out.println("World: no portal " + zoneIds[0] + " -> " + zoneIds[1] + " in map data, added world_probe");
+        }
+
+        int startX = 11, startY = 3;
+        if (portal != null) {
+            Position pos = portal.getComponent(Position.class);
+            startX = (int)(pos.x / TileMap.TILE_SIZE);
+            startY = (int)(pos.y / TileMap.TILE_SIZE);
+        }
+        world.spawnInto(zoneIds[0], EntityFactory.createPlayer(0, 0), startX, startY);
+
+        world.start();
+        try {
+            for (int s = 0; s < seconds && world.getFailedZones().isEmpty(); s++) {
+                Thread.sleep(1000);
+                System.out.println(world.getStatsString());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        world.stop();
+
+        boolean ok = true;
+        for (World.Zone zone : world.getFailedZones()) {
+            System.err.println("World: zone " + zone.getId() + " failed: " + zone.getFailure());
+            ok = false;
+        }
+        if (zoneIds.length > 1 && world.getHandOffCount() == 0) {
+            System.err.println("World: no portal hand-off within " + seconds + "s");
+            ok = false;
+        }
+        System.out.println("World run " + (ok ? "OK" : "FAILED") + " - " + world.getHandOffCount() + " hand-offs");
+        return ok;
+    }
+
+    // Active portal in zone whose target is another loaded zone
+    private static Entity findPortalTo(World world, World.Zone zone) {
+        for (Entity entity : zone.getState().getEntities()) {
+            if (entity.getType() != EntityType.PORTAL) continue;
+            Portal portal = entity.getComponent(Portal.class);
+            if (portal != null && portal.isActive && !portal.targetMap.equals(zone.getId())
+                    && world.getZone(portal.targetMap) != null) {
+                return entity;
+            }
+        }
+        return null;
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 0 && args[0].equals("--zones")) {
+            String[] zoneIds = args.length > 1 ? args[1].split(",") : new String[] { "mid_forest" };
+            int tickRate = args.length > 2 ? Integer.parseInt(args[2]) : Engine.UPS;
+            int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 10;
+            System.exit(runWorld(zoneIds, tickRate, seconds) ? 0 : 1);
+        }
+
+        int tickRate = args.length > 0 ? Integer.parseInt(args[0]) : Engine.UPS;
+        float speed = args.length > 1 ? Float.parseFloat(args[1]) : 1f;
+        long maxTicks = args.length > 2 ? Long.parseLong(args[2]) : 0;
+
+        HeadlessEngine engine = new HeadlessEngine(tickRate, speed);
+        engine.setMaxTicks(maxTicks);
+        engine.run();
+    }
+}
@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import dev.main.entity.Entity;
+import dev.main.entity.EntityHandles;
 import dev.main.input.Component;
+import dev.main.util.TimerWheel;
 
 public class AI implements Component {
     
@@ -31,20 +33,35 @@ public class AI implements Component {
     public float roamRadius;
     
     public float detectionRange;
-    public Entity target;
+    public int targetHandle;  // ★ NEW: Generational handle - see getTarget()
     
-    public float roamTimer;
+    // ★ UPDATED: Timers run on the GameState timer wheel - no per-tick countdown
+    public final TimerWheel.Timer roamTimer = new TimerWheel.Timer();
     public float roamInterval;
     
     public float returnThreshold;
     
     public float attackRange;
     public float attackCooldown;
-    public float attackTimer;
+    public final TimerWheel.Timer attackTimer = new TimerWheel.Timer();
     
-    public float victoryIdleTimer;  // NEW
+    public final TimerWheel.Timer victoryIdleTimer = new TimerWheel.Timer();  // NEW
     public float victoryIdleDuration;  // NEW
     
+    // ★ NEW: Simulation level of detail - see GameLogic.updateMonsterLOD()
+    public enum SimLevel {
+        FULL,     // every tick, animated
+        REDUCED,  // AI at a lower rate, no animation
+        DORMANT   // time is only banked in simDebt
+    }
+    
+    public SimLevel simLevel = SimLevel.FULL;
+    public float simDebt;  // seconds that passed but were not simulated yet
+    
+    // ★ NEW: Round-robin perception bucket - see PerceptionScheduler
+    public int perceptionSlot = -1;
+    public long lastPerceptionTick;
+    
     public AI(String behaviorType, float homeX, float homeY, float roamRadius, float detectionRange) {
         this.behaviorType = behaviorType;
         this.currentState = State.IDLE;
@@ -54,38 +71,54 @@ public class AI implements Component {
         this.roamRadius = roamRadius;
         
         this.detectionRange = detectionRange;
-        this.target = null;
+        this.targetHandle = EntityHandles.NONE;
         
-        this.roamTimer = 0;
         this.roamInterval = ThreadLocalRandom.current().nextFloat(3f, 6f);
         
         this.returnThreshold = roamRadius + 64f;
         
         this.attackRange = 32f;
         this.attackCooldown = 1.5f;
-        this.attackTimer = 0;
         
-        this.victoryIdleTimer = 0;
         this.victoryIdleDuration = 3f;  // Idle for 3 seconds after victory
     }
     
-    public void update(float delta) {
-        roamTimer += delta;
-        
-        if (attackTimer > 0) {
-            attackTimer -= delta;
-        }
-        
-        if (currentState == State.VICTORY_IDLE) {  
-            victoryIdleTimer += delta;
-        }
+    public boolean canAttack() {
+        return !attackTimer.isPending();
     }
     
-    public boolean canAttack() {
-        return attackTimer <= 0;
+    public void resetAttackCooldown(TimerWheel timers) {
+        timers.schedule(attackTimer, attackCooldown);
+    }
+    
+    /**
+     * ★ NEW: Fresh IDLE brain at a new home (pooled monster respawn)
+     */
+    public void reset(float homeX, float homeY) {
+        this.currentState = State.IDLE;
+        this.homeX = homeX;
+        this.homeY = homeY;
+        this.targetHandle = EntityHandles.NONE;
+        this.roamTimer.cancel();
+        this.roamInterval = ThreadLocalRandom.current().nextFloat(3f, 6f);
+        this.attackTimer.cancel();
+        this.victoryIdleTimer.cancel();
+        this.simLevel = SimLevel.FULL;
+        this.simDebt = 0;
+    }
+    
+    /**
+     * ★ NEW: Current target, or null if none or it has since been released
+     */
+    public Entity getTarget() {
+        return EntityHandles.get(targetHandle);
+    }
+    
+    public void setTarget(Entity target) {
+        targetHandle = target != null ? target.getHandle() : EntityHandles.NONE;
     }
     
-    public void resetAttackCooldown() {
-        attackTimer = attackCooldown;
+    public void clearTarget() {
+        targetHandle = EntityHandles.NONE;
     }
 }
\ No newline at end of file
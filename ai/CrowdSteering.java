@@ -0,0 +1,125 @@
+package dev.main.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.main.entity.Entity;
+import dev.main.entity.EntityHandles;
+import dev.main.entity.EntityType;
+import dev.main.entity.SpatialHash;
+import dev.main.input.Movement;
+import dev.main.input.Position;
+import dev.main.util.Dead;
+
+/**
+ * ★ NEW: Local-avoidance steering for monster crowds.
+ *
+ * Turns "walk towards target" into a velocity (Movement.velocityX/Y) made of
+ * the seek direction, slowed on arrival, plus a separation push away from
+ * nearby monsters. Neighbours come from a SpatialHash radius query and are
+ * capped, so each agent costs O(local) even with hundreds packed around
+ * one player - never all pairs.
+ */
+public class CrowdSteering {
+
+    public static final float SEPARATION_RADIUS = 28f;    // ~ one monster body
+    private static final float SEPARATION_WEIGHT = 1.5f;
+    private static final float ARRIVAL_RADIUS = 48f;
+    private static final float MIN_ARRIVAL_FACTOR = 0.35f;  // don't crawl the last pixels
+    private static final int MAX_NEIGHBORS = 8;
+
+    private final SpatialHash spatialHash;
+    private final List<Entity> neighbors = new ArrayList<>();
+
+    // Last separation vector (scratch, avoids allocating a pair)
+    private float sepX;
+    private float sepY;
+
+    public CrowdSteering(SpatialHash spatialHash) {
+        this.spatialHash = spatialHash;
+    }
+
+    /**
+     * Steer towards a target (dx, dy away, distance long) at the current speed.
+     * @param arrive slow down near the target (last leg of a path)
+     */
+    public void steer(Entity self, Position pos, Movement movement,
+                      float dx, float dy, float distance, boolean arrive) {
+        float speed = movement.currentSpeed;
+        if (arrive && distance < ARRIVAL_RADIUS) {
+            speed *= Math.max(MIN_ARRIVAL_FACTOR, distance / ARRIVAL_RADIUS);
+        }
+
+        float vx = dx / distance * speed;
+        float vy = dy / distance * speed;
+
+        if (computeSeparation(self, pos)) {
+            // Fade out right at the target so an agent can still settle on it
+            float weight = SEPARATION_WEIGHT * Math.min(1f, distance / SEPARATION_RADIUS);
+            vx += sepX * movement.currentSpeed * weight;
+            vy += sepY * movement.currentSpeed * weight;
+
+            // Never faster than the seek speed
+            float len = (float)Math.sqrt(vx * vx + vy * vy);
+            if (len > speed && len > 0f) {
+                vx = vx / len * speed;
+                vy = vy / len * speed;
+            }
+        }
+
+        movement.velocityX = vx;
+        movement.velocityY = vy;
+    }
+
+    /**
+     * Separation only, for monsters standing still (e.g. attacking). Writes
+     * the velocity and returns false if nothing is crowding them.
+     */
+    public boolean separate(Entity self, Position pos, Movement movement, float speed) {
+        if (!computeSeparation(self, pos)) {
+            movement.velocityX = 0f;
+            movement.velocityY = 0f;
+            return false;
+        }
+        movement.velocityX = sepX * speed;
+        movement.velocityY = sepY * speed;
+        return true;
+    }
+
+    /**
+     * Sum of pushes away from neighbours, each fading to 0 at SEPARATION_RADIUS
+     */
+    private boolean computeSeparation(Entity self, Position pos) {
+        sepX = 0f;
+        sepY = 0f;
+
+        neighbors.clear();
+        spatialHash.queryRadius(pos.x, pos.y, SEPARATION_RADIUS, EntityType.MONSTER, neighbors);
+
+        int used = 0;
+        for (int i = 0; i < neighbors.size() && used < MAX_NEIGHBORS; i++) {
+            Entity other = neighbors.get(i);
+            if (other == self || other.hasComponent(Dead.class)) continue;
+
+            Position otherPos = other.getComponent(Position.class);
+            float ox = pos.x - otherPos.x;
+            float oy = pos.y - otherPos.y;
+            float dist = (float)Math.sqrt(ox * ox + oy * oy);
+
+            if (dist < 0.001f) {
+                // Exactly stacked: split deterministically by handle
+                ox = (EntityHandles.indexOf(self.getHandle()) & 1) == 0 ? 1f : -1f;
+                oy = 0f;
+                dist = 1f;
+            }
+
+            float strength = 1f - Math.min(dist, SEPARATION_RADIUS) / SEPARATION_RADIUS;
+            sepX += ox / dist * strength;
+            sepY += oy / dist * strength;
+            used++;
+        }
+        neighbors.clear();
+
+        return sepX != 0f || sepY != 0f;
+    }
+}
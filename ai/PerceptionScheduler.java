@@ -0,0 +1,75 @@
+package dev.main.ai;
+
+/**
+ * ★ NEW: Staggers monster perception (player detection) across ticks.
+ *
+ * Every AI gets a round-robin slot; with N buckets only the monsters whose
+ * slot matches tick % N look for the player on a given tick. N is derived
+ * from the reaction latency so a mob notices the player at most
+ * reactionLatency seconds late, whatever the tick rate.
+ */
+public class PerceptionScheduler {
+
+    public static final float DEFAULT_REACTION_LATENCY = 0.2f;
+    private static final int MAX_BUCKETS = 16;
+
+    private float reactionLatency;
+    private int bucketCount = 1;
+    private long tick = 0;
+    private int nextSlot = 0;
+
+    private int checksThisTick = 0;
+
+    public PerceptionScheduler() {
+        this(DEFAULT_REACTION_LATENCY);
+    }
+
+    public PerceptionScheduler(float reactionLatency) {
+        setReactionLatency(reactionLatency);
+    }
+
+    /**
+     * Advance to the next bucket. Call once at the start of every tick.
+     */
+    public void beginTick(float delta) {
+        tick++;
+        checksThisTick = 0;
+        if (delta > 0f) {
+            bucketCount = Math.max(1, Math.min(MAX_BUCKETS, (int)(reactionLatency / delta)));
+        }
+    }
+
+    /**
+     * True if this AI should run its detection check this tick. AIs that
+     * missed their slot (e.g. reduced-rate LOD) are due as soon as they run.
+     */
+    public boolean isDue(AI ai) {
+        if (ai.perceptionSlot < 0) {
+            ai.perceptionSlot = nextSlot++ & Integer.MAX_VALUE;
+        }
+
+        boolean due = ai.perceptionSlot % bucketCount == tick % bucketCount
+                   || tick - ai.lastPerceptionTick >= bucketCount;
+        if (due) {
+            ai.lastPerceptionTick = tick;
+            checksThisTick++;
+        }
+        return due;
+    }
+
+    public void setReactionLatency(float seconds) {
+        this.reactionLatency = Math.max(0f, seconds);
+    }
+
+    public float getReactionLatency() {
+        return reactionLatency;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public int getChecksThisTick() {
+        return checksThisTick;
+    }
+}
@@ -2,6 +2,8 @@ package dev.main.buffs;
 
 import java.awt.Color;
 
+import dev.main.util.TimerWheel;
+
 /**
  * Buff - Temporary status effect that modifies player stats
  */
@@ -34,6 +36,7 @@ public class Buff {
     // Duration
     private float currentDuration;
     private float maxDuration;
+    private TimerWheel.Timer expiryTimer;  // ★ NEW: Time-based expiry on the game clock
     
     // Effect values
     private float expBoostPercent;      // 0.0 - 1.0 (0.20 = +20%)
@@ -80,16 +83,30 @@ public class Buff {
     }
     
     /**
-     * Update buff duration (time-based)
+     * ★ NEW: Start the countdown of a time-based buff. onExpire runs on the
+     * zone thread when it runs out; other duration types ignore this.
      */
-    public void update(float delta) {
+    public void start(TimerWheel timers, Runnable onExpire) {
         if (!active || durationType != DurationType.TIME_BASED) return;
         
-        currentDuration -= delta;
-        
-        if (currentDuration <= 0) {
+        expiryTimer = new TimerWheel.Timer(() -> {
             currentDuration = 0;
             active = false;
+            onExpire.run();
+        });
+        timers.schedule(expiryTimer, currentDuration);
+    }
+    
+    TimerWheel.Timer getExpiryTimer() {
+        return expiryTimer;
+    }
+    
+    /**
+     * ★ NEW: Stop the countdown (buff removed or replaced)
+     */
+    public void cancel() {
+        if (expiryTimer != null) {
+            expiryTimer.cancel();
         }
     }
     
@@ -112,13 +129,14 @@ public class Buff {
      */
     public float getDurationPercent() {
         if (maxDuration <= 0) return 1.0f;
-        return Math.max(0f, Math.min(1.0f, currentDuration / maxDuration));
+        return Math.max(0f, Math.min(1.0f, getCurrentDuration() / maxDuration));
     }
     
     /**
      * Get formatted duration string
      */
     public String getDurationString() {
+        float currentDuration = getCurrentDuration();
         switch (durationType) {
             case TIME_BASED:
                 if (currentDuration >= 60) {
@@ -284,7 +302,12 @@ public class Buff {
     public BuffType getType() { return type; }
     public DurationType getDurationType() { return durationType; }
     
-    public float getCurrentDuration() { return currentDuration; }
+    public float getCurrentDuration() {
+        if (expiryTimer != null && expiryTimer.isPending()) {
+            return expiryTimer.getRemaining();
+        }
+        return currentDuration;
+    }
     public float getMaxDuration() { return maxDuration; }
     
     public float getExpBoostPercent() { return expBoostPercent; }
@@ -5,6 +5,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import dev.main.input.Component;
+import dev.main.util.TimerWheel;
 
 /**
  * BuffManager Component - Manages active buffs on an entity
@@ -20,26 +21,10 @@ public class BuffManager implements Component {
     }
     
     /**
-     * Update all active buffs
+     * Add a buff. ★ UPDATED: Time-based buffs expire from a timer wheel
+     * callback instead of being polled every tick.
      */
-    public void update(float delta) {
-        Iterator<Buff> iterator = activeBuffs.iterator();
-        while (iterator.hasNext()) {
-            Buff buff = iterator.next();
-            buff.update(delta);
-            
-            // Remove expired buffs
-            if (!buff.isActive()) {
-                System.out.println("Buff expired: " + buff.getName());
-                iterator.remove();
-            }
-        }
-    }
-    
-    /**
-     * Add a buff
-     */
-    public boolean addBuff(Buff buff) {
+    public boolean addBuff(Buff buff, TimerWheel timers) {
         if (activeBuffs.size() >= maxBuffSlots) {
             System.out.println("Cannot add buff - max slots reached!");
             return false;
@@ -49,13 +34,16 @@ public class BuffManager implements Component {
         Buff existing = getBuff(buff.getId());
         if (existing != null) {
             // Replace with new buff (refreshes duration)
+            existing.cancel();
             activeBuffs.remove(existing);
             activeBuffs.add(buff);
+            buff.start(timers, () -> expire(buff));
             System.out.println("Refreshing buff: " + buff.getName() + " - " + buff.getDurationString());
             return true;
         }
         
         activeBuffs.add(buff);
+        buff.start(timers, () -> expire(buff));
         System.out.println("Buff added: " + buff.getName() + " - " + buff.getDurationString());
         return true;
     }
@@ -68,6 +56,7 @@ public class BuffManager implements Component {
         while (iterator.hasNext()) {
             Buff buff = iterator.next();
             if (buff.getId().equals(buffId)) {
+                buff.cancel();
                 iterator.remove();
                 System.out.println("Buff removed: " + buff.getName());
                 return true;
@@ -76,6 +65,12 @@ public class BuffManager implements Component {
         return false;
     }
     
+    private void expire(Buff buff) {
+        if (activeBuffs.remove(buff)) {
+            System.out.println("Buff expired: " + buff.getName());
+        }
+    }
+    
     /**
      * Get a buff by ID
      */
@@ -193,6 +188,18 @@ public class BuffManager implements Component {
         return Math.min(0.75f, total);  // Cap at 75% reduction
     }
     
+    /**
+     * ★ NEW: Expiry timers of the active buffs (zone hand-off moves them)
+     */
+    public void collectTimers(List<TimerWheel.Timer> out) {
+        for (Buff buff : activeBuffs) {
+            TimerWheel.Timer timer = buff.getExpiryTimer();
+            if (timer != null) {
+                out.add(timer);
+            }
+        }
+    }
+    
     /**
      * Get all active buffs
      */
@@ -0,0 +1,113 @@
+package dev.main.debug;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+import dev.main.render.Palette;
+import dev.main.render.RenderCommandBuffer;
+import dev.main.sprite.SpriteAtlas;
+import dev.main.sprite.TextureManager;
+
+/**
+ * Replays one recorded frame of render commands (Renderer, -Drender.record)
+ * as fast as possible: submission order vs. state-sorted order.
+ *
+ * Usage: CommandReplayBenchmark [recording] [seconds]
+ * Without a recording a synthetic crowd (goblin sprites + bars) is used.
+ */
+public class CommandReplayBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        float seconds = args.length > 1 ? Float.parseFloat(args[1]) : 2f;
+
+        RenderCommandBuffer sorted;
+        if (args.length > 0 && !args[0].isEmpty()) {
+            try (DataInputStream in = new DataInputStream(new FileInputStream(args[0]))) {
+                sorted = RenderCommandBuffer.read(in);
+            }
+            System.out.println("Loaded " + args[0]);
+        } else {
+            sorted = synthetic();
+            if (sorted == null) return;
+        }
+        RenderCommandBuffer unsorted = sorted.copyUnsorted();
+
+        BufferedImage target = SpriteAtlas.createCompatibleImage(1280, 720, Transparency.OPAQUE);
+        Graphics2D g = target.createGraphics();
+
+        run(g, unsorted, 0.5f);
+        run(g, sorted, 0.5f);
+
+        double before = run(g, unsorted, seconds);
+        int beforeChanges = unsorted.getLastStateChanges();
+        double after = run(g, sorted, seconds);
+        int afterChanges = sorted.getLastStateChanges();
+        g.dispose();
+
+        System.out.println(sorted.getStatsString());
+        System.out.printf("Submission order: %,.0f frames/s, %d state changes/frame%n", before, beforeChanges);
+        System.out.printf("State-sorted:     %,.0f frames/s, %d state changes/frame (%.2fx)%n",
+                          after, afterChanges, after / before);
+    }
+
+    private static double run(Graphics2D g, RenderCommandBuffer buffer, float seconds) {
+        long frames = 0;
+        long start = System.nanoTime();
+        long end = start + (long)(seconds * 1_000_000_000L);
+        long now = start;
+
+        while (now < end) {
+            buffer.replay(g);
+            frames++;
+            now = System.nanoTime();
+        }
+        return frames / ((now - start) / 1_000_000_000.0);
+    }
+
+    // 400 goblins in depth order, each with a health and stamina bar
+    // (bars go in a sortable pass here to measure the sort itself; the renderer
+    // keeps its bar pass ordered because real bars overlap)
+    private static RenderCommandBuffer synthetic() {
+        BufferedImage sheet = TextureManager.load("/sprites/goblin.png");
+        if (sheet == null) {
+            System.err.println("Sheet not found: /sprites/goblin.png");
+            return null;
+        }
+        SpriteAtlas.Sheet frames = SpriteAtlas.get(sheet, 64, 64);
+        int rows = Math.max(1, sheet.getHeight() / 64);
+        int cols = Math.max(1, sheet.getWidth() / 64);
+
+        Color[] hpColors = { Palette.color(0, 200, 0), Palette.color(255, 165, 0), Palette.color(220, 20, 20) };
+        Color background = Palette.color(40, 40, 40);
+        Color stamina = Palette.color(255, 215, 0);
+
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        int count = 400;
+
+        buffer.beginPass(false);
+        for (int i = 0; i < count; i++) {
+            int y = (i * 640) / count;
+            int x = (i * 37) % 1200;
+            buffer.drawImage(frames.getFrame(i % rows, (i / rows) % cols), x, y);
+        }
+
+        buffer.beginPass(true);
+        for (int i = 0; i < count; i++) {
+            int y = (i * 640) / count;
+            int x = (i * 37) % 1200 + 12;
+            buffer.fillRect(background, x, y - 8, 40, 4);
+            buffer.fillRect(hpColors[i % 3], x, y - 8, 10 + i % 30, 4);
+            buffer.drawRect(Color.BLACK, 1f, x, y - 8, 40, 4);
+            buffer.fillRect(background, x, y - 3, 40, 3);
+            buffer.fillRect(stamina, x, y - 3, 40 - i % 30, 3);
+            buffer.drawRect(Color.BLACK, 1f, x, y - 3, 40, 3);
+        }
+        System.out.println("Synthetic frame: " + count + " sprites with bars");
+        return buffer;
+    }
+}
@@ -0,0 +1,82 @@
+package dev.main.debug;
+
+import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import dev.main.sprite.SpriteAtlas;
+import dev.main.sprite.TextureManager;
+
+/**
+ * Measures sprite blits per second: sub-rectangles of the raw ImageIO sheet
+ * (old path) vs. SpriteAtlas pre-sliced compatible frames (new path).
+ *
+ * Usage: SpriteBlitBenchmark [sheetPath] [frameWidth] [frameHeight] [seconds]
+ * Draws into a display-compatible back buffer the size of the game window.
+ */
+public class SpriteBlitBenchmark {
+
+    public static void main(String[] args) {
+        String path = args.length > 0 ? args[0] : "/sprites/goblin.png";
+        int frameWidth = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int frameHeight = args.length > 2 ? Integer.parseInt(args[2]) : 64;
+        float seconds = args.length > 3 ? Float.parseFloat(args[3]) : 2f;
+
+        BufferedImage sheet = TextureManager.load(path);
+        if (sheet == null) {
+            System.err.println("Sheet not found: " + path);
+            return;
+        }
+
+        int rows = Math.max(1, sheet.getHeight() / frameHeight);
+        int cols = Math.max(1, sheet.getWidth() / frameWidth);
+
+        System.out.println("Sheet " + path + ": " + sheet.getWidth() + "x" + sheet.getHeight()
+                           + ", type " + sheet.getType() + ", " + rows + "x" + cols + " frames");
+
+        BufferedImage target = SpriteAtlas.createCompatibleImage(1280, 720, Transparency.OPAQUE);
+        Graphics2D g = target.createGraphics();
+
+        // Warm up both paths (JIT + slicing) before measuring
+        run(g, sheet, frameWidth, frameHeight, rows, cols, false, 0.5f);
+        run(g, sheet, frameWidth, frameHeight, rows, cols, true, 0.5f);
+
+        double before = run(g, sheet, frameWidth, frameHeight, rows, cols, false, seconds);
+        double after = run(g, sheet, frameWidth, frameHeight, rows, cols, true, seconds);
+        g.dispose();
+
+        System.out.printf("Raw sheet sub-rect: %,.0f blits/s%n", before);
+        System.out.printf("Atlas frames:       %,.0f blits/s (%.2fx)%n", after, after / before);
+    }
+
+    private static double run(Graphics2D g, BufferedImage sheet, int frameWidth, int frameHeight,
+                              int rows, int cols, boolean atlas, float seconds) {
+        SpriteAtlas.Sheet sliced = atlas ? SpriteAtlas.get(sheet, frameWidth, frameHeight) : null;
+
+        long blits = 0;
+        long start = System.nanoTime();
+        long end = start + (long)(seconds * 1_000_000_000L);
+        long now = start;
+
+        while (now < end) {
+            for (int i = 0; i < 1000; i++) {
+                int row = i % rows;
+                int col = (i / rows) % cols;
+                int x = (i * 37) % 1200;
+                int y = (i * 53) % 640;
+
+                if (sliced != null) {
+                    g.drawImage(sliced.getFrame(row, col), x, y, null);
+                } else {
+                    int srcX = col * frameWidth;
+                    int srcY = row * frameHeight;
+                    g.drawImage(sheet, x, y, x + frameWidth, y + frameHeight,
+                                srcX, srcY, srcX + frameWidth, srcY + frameHeight, null);
+                }
+            }
+            blits += 1000;
+            now = System.nanoTime();
+        }
+        return blits / ((now - start) / 1_000_000_000.0);
+    }
+}
@@ -0,0 +1,296 @@
+package dev.main.entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import dev.main.input.CollisionBox;
+import dev.main.input.Movement;
+import dev.main.input.Position;
+
+/**
+ * ★ NEW: Sort-and-sweep broadphase over every entity with a CollisionBox.
+ *
+ * Boxes are kept sorted by left edge across ticks (insertion sort - nearly
+ * sorted after the first tick, so ~O(n)), then one sweep finds the
+ * overlapping pairs. Pairs are diffed against the previous tick and
+ * published as enter / stay / exit events to the subscribed listeners.
+ * Pairs where neither side can move (scenery, portals) are skipped.
+ */
+public class CollisionBroadphase {
+
+    /**
+     * Contact events. a and b are in a stable order (lower ID first);
+     * check both for the types you care about.
+     */
+    public interface Listener {
+        default void onEnter(Entity a, Entity b) {}
+        default void onStay(Entity a, Entity b) {}
+        default void onExit(Entity a, Entity b) {}
+    }
+
+    private static class Contact {
+        final Entity a;
+        final Entity b;
+        int stamp;
+
+        Contact(Entity a, Entity b) {
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    private final List<Listener> listeners = new ArrayList<>();
+    
+    // Last tick's pairs and this tick's, swapped after each sweep; keyed by the
+    // pair's IDs so a tick with no new contacts allocates nothing
+    private ContactTable contacts = new ContactTable(64);
+    private ContactTable nextContacts = new ContactTable(64);
+
+    // Sorted by minX; order survives between ticks
+    private Entity[] items = new Entity[64];
+    private float[] minX = new float[64];
+    private float[] maxX = new float[64];
+    private float[] minY = new float[64];
+    private float[] maxY = new float[64];
+    private int count = 0;
+
+    // Per-tick stamps are unique across zones, so an entity handed between
+    // zones can never carry a stamp that collides with its new broadphase
+    private static final AtomicInteger STAMPS = new AtomicInteger();
+    private int stamp = 0;
+
+    private final List<Contact> entered = new ArrayList<>();
+    private final List<Contact> stayed = new ArrayList<>();
+    private final List<Contact> exited = new ArrayList<>();
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Find this tick's overlapping pairs and fire the events
+     */
+    public void update(EntityList entities) {
+        stamp = STAMPS.incrementAndGet();
+        collect(entities);
+        sort();
+        sweep();
+        dispatch();
+    }
+
+    private void collect(EntityList entities) {
+        // Survivors first, in last tick's order, then newcomers
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            Entity entity = items[i];
+            items[i] = null;
+            if (entities.contains(entity) && entity.broadphaseStamp != stamp && hasBox(entity)) {
+                entity.broadphaseStamp = stamp;
+                items[n++] = entity;
+            }
+        }
+        for (int i = 0, size = entities.size(); i < size; i++) {
+            Entity entity = entities.get(i);
+            if (entity.broadphaseStamp == stamp || !hasBox(entity)) continue;
+            entity.broadphaseStamp = stamp;
+            ensureCapacity(n + 1);
+            items[n++] = entity;
+        }
+        count = n;
+
+        for (int i = 0; i < count; i++) {
+            Entity entity = items[i];
+            Position pos = entity.getComponent(Position.class);
+            CollisionBox box = entity.getComponent(CollisionBox.class);
+            minX[i] = box.getLeft(pos.x);
+            maxX[i] = box.getRight(pos.x);
+            minY[i] = box.getTop(pos.y);
+            maxY[i] = box.getBottom(pos.y);
+        }
+    }
+
+    private void sort() {
+        for (int i = 1; i < count; i++) {
+            Entity entity = items[i];
+            float x0 = minX[i], x1 = maxX[i], y0 = minY[i], y1 = maxY[i];
+
+            int j = i - 1;
+            while (j >= 0 && minX[j] > x0) {
+                items[j + 1] = items[j];
+                minX[j + 1] = minX[j];
+                maxX[j + 1] = maxX[j];
+                minY[j + 1] = minY[j];
+                maxY[j + 1] = maxY[j];
+                j--;
+            }
+            items[j + 1] = entity;
+            minX[j + 1] = x0;
+            maxX[j + 1] = x1;
+            minY[j + 1] = y0;
+            maxY[j + 1] = y1;
+        }
+    }
+
+    private void sweep() {
+        for (int i = 0; i < count; i++) {
+            Entity a = items[i];
+            boolean aMoves = a.hasComponent(Movement.class);
+
+            // Same strict test as CollisionBox.overlaps (touching edges don't count)
+            for (int j = i + 1; j < count && minX[j] < maxX[i]; j++) {
+                if (minY[j] >= maxY[i] || maxY[j] <= minY[i]) continue;
+
+                Entity b = items[j];
+                if (!aMoves && !b.hasComponent(Movement.class)) continue;
+
+                touch(a, b);
+            }
+        }
+
+        // Pairs not touched this tick have ended
+        for (int i = 0, capacity = contacts.capacity(); i < capacity; i++) {
+            Contact contact = contacts.at(i);
+            if (contact != null && contact.stamp != stamp) {
+                exited.add(contact);
+            }
+        }
+        contacts.clear();
+        ContactTable swap = contacts;
+        contacts = nextContacts;
+        nextContacts = swap;
+    }
+
+    // getID, not getHandle: explicit-ID entities all share the NONE handle
+    private void touch(Entity a, Entity b) {
+        if (a.getID() > b.getID()) {
+            Entity swap = a;
+            a = b;
+            b = swap;
+        }
+        long key = ((long)a.getID() << 32) | (b.getID() & 0xFFFFFFFFL);
+
+        Contact contact = contacts.get(key);
+        if (contact == null) {
+            contact = new Contact(a, b);
+            entered.add(contact);
+        } else {
+            stayed.add(contact);
+        }
+        contact.stamp = stamp;
+        nextContacts.put(key, contact);
+    }
+
+    private void dispatch() {
+        for (Listener listener : listeners) {
+            for (Contact c : exited) listener.onExit(c.a, c.b);
+            for (Contact c : entered) listener.onEnter(c.a, c.b);
+            for (Contact c : stayed) listener.onStay(c.a, c.b);
+        }
+        exited.clear();
+        entered.clear();
+        stayed.clear();
+    }
+
+    private static boolean hasBox(Entity entity) {
+        return entity.hasComponent(CollisionBox.class) && entity.hasComponent(Position.class);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= items.length) return;
+        int size = items.length * 2;
+        items = Arrays.copyOf(items, size);
+        minX = Arrays.copyOf(minX, size);
+        maxX = Arrays.copyOf(maxX, size);
+        minY = Arrays.copyOf(minY, size);
+        maxY = Arrays.copyOf(maxY, size);
+    }
+
+    public int getContactCount() {
+        return contacts.size();
+    }
+
+    public void clear() {
+        Arrays.fill(items, 0, count, null);
+        count = 0;
+        contacts.clear();
+        nextContacts.clear();
+    }
+
+    /**
+     * Open-addressing long -> Contact map (no boxing). No removal: the
+     * broadphase fills a fresh table every tick and clears the old one.
+     */
+    private static final class ContactTable {
+        private long[] keys;
+        private Contact[] values;
+        private int size = 0;
+
+        ContactTable(int capacity) {
+            keys = new long[capacity];
+            values = new Contact[capacity];
+        }
+
+        Contact get(long key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) return values[i];
+            }
+            return null;
+        }
+
+        void put(long key, Contact value) {
+            if ((size + 1) * 2 > keys.length) grow();
+            insert(key, value);
+            size++;
+        }
+
+        private void insert(long key, Contact value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        private void grow() {
+            long[] oldKeys = keys;
+            Contact[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new Contact[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) insert(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        int capacity() {
+            return values.length;
+        }
+
+        Contact at(int slot) {
+            return values[slot];
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            if (size == 0) return;
+            Arrays.fill(values, null);
+            size = 0;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int)(h ^ (h >>> 32));
+        }
+    }
+}
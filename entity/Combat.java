@@ -3,10 +3,11 @@ package dev.main.entity;
 import dev.main.Engine;
 import dev.main.input.Component;
 import dev.main.stats.Stats;
+import dev.main.util.TimerWheel;
 
 public class Combat implements Component {
     public float attackCooldown;
-    public float attackTimer;
+    public final TimerWheel.Timer attackTimer = new TimerWheel.Timer();  // ★ UPDATED: Cooldown on the game clock
     
     // Attack stats
     public float critChance;
@@ -20,7 +21,7 @@ public class Combat implements Component {
     public float hitFrame;  // NEW: Which frame triggers damage (0.0 to 1.0)
     public boolean damageApplied;  // NEW: Track if damage already dealt this attack
     
-    public Entity attackTarget;  // NEW: Store who we're attacking
+    public int attackTargetHandle;  // ★ NEW: Who we're attacking, as a generational handle
     
     public Combat(float attackCooldown, float critChance, float evasionChance) {
 	/*
@@ -29,7 +30,6 @@ public class Combat implements Component {
 		attackCooldown = 3.0f;  // Slow, heavy attacker
 	 */
         this.attackCooldown = attackCooldown; // ⭐ Time between attacks (cooldown)  
-        this.attackTimer = 0;
         this.critChance = critChance;
         this.critMultiplier = 2.0f;
         this.evasionChance = evasionChance;
@@ -49,11 +49,11 @@ public class Combat implements Component {
      * */
         this.hitFrame = 0.5f;  // Damage at 50% through animation (mid-swing) // ⭐ When during animation to deal damage
         this.damageApplied = false;
-        this.attackTarget = null;
+        this.attackTargetHandle = EntityHandles.NONE;
     }
     
     public boolean canAttack() {
-        return attackTimer <= 0 && !isAttacking;
+        return !attackTimer.isPending() && !isAttacking;
     }
     // ☆ NEW: Check if can attack (cooldown + stamina)
     public boolean canAttackWithStamina(Stats stats) {
@@ -64,30 +64,44 @@ public class Combat implements Component {
         return stats.stamina >= staminaCost;
     }
     
-    public void startAttack(Entity target) {
+    public void startAttack(Entity target, TimerWheel timers) {
         isAttacking = true;
         attackAnimationTimer = 0;
-        attackTimer = attackCooldown;
+        timers.schedule(attackTimer, attackCooldown);
         damageApplied = false;  // Reset damage flag // ⭐ Flag: "haven't dealt damage yet"
-        attackTarget = target;  // Store target // ⭐ Remember who we're hitting
+        attackTargetHandle = target != null ? target.getHandle() : EntityHandles.NONE;  // ⭐ Remember who we're hitting
     }
     
     public void update(float delta) {
-        if (attackTimer > 0) {
-            attackTimer -= delta; // Increase timer
-            // attackAnimationTimer goes from 0.0 → 0.5 (500ms animation)
-        }
-        
+        // attackAnimationTimer goes from 0.0 → 0.5 (500ms animation)
         if (isAttacking) {
             attackAnimationTimer += delta;
             if (attackAnimationTimer >= attackAnimationDuration) {
                 isAttacking = false;
                 attackAnimationTimer = 0;
-                attackTarget = null;  // Clear target
+                attackTargetHandle = EntityHandles.NONE;  // Clear target
             }
         }
     }
     
+    /**
+     * ★ NEW: Clear per-fight state (pooled monster respawn)
+     */
+    public void reset() {
+        attackTimer.cancel();
+        isAttacking = false;
+        attackAnimationTimer = 0;
+        damageApplied = false;
+        attackTargetHandle = EntityHandles.NONE;
+    }
+    
+    /**
+     * ★ NEW: Who we're hitting, or null if the target was released mid-swing
+     */
+    public Entity getAttackTarget() {
+        return EntityHandles.get(attackTargetHandle);
+    }
+    
     public float getAttackProgress() {
         if (!isAttacking) return 0f;
      // Returns 0.0 at start → 1.0 at end
@@ -1,46 +1,64 @@
 package dev.main.entity;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import dev.main.input.Component;
 
 public class Entity {
 
-    private static int nextID = 0;
+    // ★ NEW: Generational handle from EntityHandles (was a static non-atomic counter)
+    private int ID;
+    private final boolean managed;  // false = explicit ID, not in the handle table
     
-    public final int ID;
+    // ★ NEW: Slot bookkeeping for EntityList (one container at a time)
+    int listIndex = -1;
+    boolean pendingRemove = false;
+    
+    // ★ NEW: Cell/bucket bookkeeping for SpatialHash
+    int spatialBucket = -1;
+    int spatialSlot;
+    int cellX;
+    int cellY;
+    
+    int broadphaseStamp;  // ★ NEW: CollisionBroadphase bookkeeping
     private String name;
     private EntityType type;  // NEW
     
     private final Map<Class<? extends Component>, Component> components = new HashMap<>();
 
     public Entity() {
-        this.ID = nextID++;
+        this.ID = EntityHandles.allocate(this);
+        this.managed = true;
         this.name = "Entity_" + ID;
         this.type = EntityType.PLAYER;
     }
     
     public Entity(String name) {
-        this.ID = nextID++;
+        this.ID = EntityHandles.allocate(this);
+        this.managed = true;
         this.name = name;
         this.type = EntityType.PLAYER;
     }
     
     public Entity(String name, EntityType type) {
-        this.ID = nextID++;
+        this.ID = EntityHandles.allocate(this);
+        this.managed = true;
         this.name = name;
         this.type = type;
     }
 
+    /**
+     * Explicit ID (e.g. from a save/server). Not registered in EntityHandles,
+     * so handles to it never resolve and release() is a no-op.
+     */
     public Entity(int id, String name) {
         this.ID = id;
+        this.managed = false;
         this.name = name;
         this.type = EntityType.PLAYER;
-        
-        if (id >= nextID) {
-            nextID = id + 1;
-        }
     }
 
     public <T extends Component> void addComponent(T component) {
@@ -58,11 +76,53 @@ public class Entity {
     public <T extends Component> boolean hasComponent(Class<T> type) {
         return components.containsKey(type);
     }
+    
+    // ★ NEW: Component types currently attached (copy)
+    public Set<Class<? extends Component>> getComponentTypes() {
+        return new HashSet<>(components.keySet());
+    }
+    
+    // ★ NEW: Drop every component whose type is not in keep
+    public void retainComponents(Set<Class<? extends Component>> keep) {
+        components.keySet().retainAll(keep);
+    }
 
     public int getID() {
         return ID;
     }
     
+    // ★ NEW: Handle to store instead of an Entity reference (see EntityHandles.get)
+    public int getHandle() {
+        return managed ? ID : EntityHandles.NONE;
+    }
+    
+    /**
+     * ★ NEW: False once the entity has been released from the world
+     */
+    public boolean isAlive() {
+        return !managed || EntityHandles.isAlive(ID);
+    }
+    
+    /**
+     * ★ NEW: Invalidate all handles to this entity and recycle its slot.
+     * Call when the entity leaves the simulation for good.
+     */
+    public void release() {
+        if (managed) {
+            EntityHandles.free(ID);
+        }
+    }
+    
+    /**
+     * ★ NEW: Take a fresh handle after release() - the object is being reused
+     * (MonsterPool), so references to its previous life must stay stale.
+     */
+    void renew() {
+        if (managed && !EntityHandles.isAlive(ID)) {
+            ID = EntityHandles.allocate(this);
+        }
+    }
+    
     public String getName() {
         return name;
     }
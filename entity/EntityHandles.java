@@ -0,0 +1,137 @@
+package dev.main.entity;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * ★ NEW: Generational entity handles.
+ *
+ * handle = generation << INDEX_BITS | index. Freeing a slot bumps its
+ * generation, so every handle still naming the old occupant stops resolving
+ * (get() returns null) and freed slots are recycled through a free list.
+ * Allocate/free/get are lock-free - the free list is a Treiber stack whose
+ * head carries an ABA tag - so loader and zone threads can create entities
+ * concurrently.
+ */
+public final class EntityHandles {
+
+    public static final int NONE = -1;
+
+    private static final int INDEX_BITS = 18;
+    public static final int CAPACITY = 1 << INDEX_BITS;           // max live entities
+    private static final int INDEX_MASK = CAPACITY - 1;
+    private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;  // keeps handles >= 0
+
+    private static final AtomicIntegerArray generations = new AtomicIntegerArray(CAPACITY);
+    private static final AtomicReferenceArray<Entity> slots = new AtomicReferenceArray<>(CAPACITY);
+
+    // Free list: nextFree[i] = (next index + 1), 0 = end. Head = tag << 32 | (index + 1)
+    private static final AtomicIntegerArray nextFree = new AtomicIntegerArray(CAPACITY);
+    private static final AtomicLong freeHead = new AtomicLong(0L);
+
+    private static final AtomicInteger highWater = new AtomicInteger(0);  // never-used slots start here
+    private static final AtomicInteger liveCount = new AtomicInteger(0);
+    private static final AtomicInteger recycledCount = new AtomicInteger(0);
+
+    private EntityHandles() {}
+
+    /**
+     * Reserve a slot for entity and return its handle
+     */
+    static int allocate(Entity entity) {
+        int index = popFree();
+        if (index >= 0) {
+            recycledCount.incrementAndGet();
+        } else {
+            index = highWater.getAndIncrement();
+            if (index >= CAPACITY) {
+                highWater.decrementAndGet();
+                throw new IllegalStateException("Entity handle space exhausted (" + CAPACITY + " live entities)");
+            }
+        }
+
+        slots.set(index, entity);
+        liveCount.incrementAndGet();
+        return (generations.get(index) << INDEX_BITS) | index;
+    }
+
+    /**
+     * Invalidate handle and recycle its slot.
+     * @return false if the handle was already stale (double free is harmless)
+     */
+    static boolean free(int handle) {
+        if (handle < 0) return false;
+
+        int index = handle & INDEX_MASK;
+        int generation = handle >>> INDEX_BITS;
+        if (!generations.compareAndSet(index, generation, (generation + 1) & GENERATION_MASK)) {
+            return false;
+        }
+
+        slots.set(index, null);  // don't keep the dead entity reachable
+        liveCount.decrementAndGet();
+        pushFree(index);
+        return true;
+    }
+
+    /**
+     * Entity for handle, or null if it has been freed (stale) or is NONE
+     */
+    public static Entity get(int handle) {
+        if (handle < 0) return null;
+
+        int index = handle & INDEX_MASK;
+        Entity entity = slots.get(index);
+        // Read the generation after the slot: a recycled slot always has a newer generation
+        return generations.get(index) == (handle >>> INDEX_BITS) ? entity : null;
+    }
+
+    public static boolean isAlive(int handle) {
+        return handle >= 0 && generations.get(handle & INDEX_MASK) == (handle >>> INDEX_BITS);
+    }
+
+    public static int indexOf(int handle) {
+        return handle & INDEX_MASK;
+    }
+
+    public static int generationOf(int handle) {
+        return handle >>> INDEX_BITS;
+    }
+
+    public static int getLiveCount() {
+        return liveCount.get();
+    }
+
+    public static int getRecycledCount() {
+        return recycledCount.get();
+    }
+
+    private static int popFree() {
+        while (true) {
+            long head = freeHead.get();
+            int top = (int)head;
+            if (top == 0) {
+                return -1;
+            }
+            int index = top - 1;
+            int next = nextFree.get(index);
+            long newHead = (((head >>> 32) + 1) << 32) | (next & 0xFFFFFFFFL);
+            if (freeHead.compareAndSet(head, newHead)) {
+                return index;
+            }
+        }
+    }
+
+    private static void pushFree(int index) {
+        while (true) {
+            long head = freeHead.get();
+            nextFree.set(index, (int)head);
+            long newHead = (((head >>> 32) + 1) << 32) | ((index + 1) & 0xFFFFFFFFL);
+            if (freeHead.compareAndSet(head, newHead)) {
+                return;
+            }
+        }
+    }
+}
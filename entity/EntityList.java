@@ -0,0 +1,185 @@
+package dev.main.entity;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * ★ NEW: Entity container with O(1) removal and stable iteration.
+ *
+ * Every entity remembers its slot, so remove() swaps the last entity into
+ * the hole instead of shifting the array (order is not preserved - the
+ * renderer sorts by depth anyway). Between beginDeferring() and
+ * endDeferring() adds and removes are queued and applied together at that
+ * sync point, so the tick can iterate while entities die or spawn.
+ * Players are also tracked on the side, so finding them never scans the list.
+ */
+public class EntityList extends AbstractList<Entity> implements RandomAccess {
+
+    private Entity[] data = new Entity[64];
+    private int size = 0;
+
+    private int deferDepth = 0;
+    private final List<Entity> pendingAdds = new ArrayList<>();
+    private final List<Entity> pendingRemoves = new ArrayList<>();
+
+    // ★ NEW: PLAYER entities currently in the list, maintained on add/remove
+    private final List<Entity> players = new ArrayList<>();
+    private final List<Entity> playersView = Collections.unmodifiableList(players);
+
+    @Override
+    public Entity get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return data[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Entity entity) {
+        if (deferDepth > 0) {
+            pendingAdds.add(entity);
+        } else {
+            append(entity);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!(o instanceof Entity)) return false;
+        Entity entity = (Entity)o;
+
+        if (deferDepth > 0) {
+            if (pendingAdds.remove(entity)) {
+                return true;  // spawned and removed in the same tick
+            }
+            if (contains(entity) && !entity.pendingRemove) {
+                entity.pendingRemove = true;
+                pendingRemoves.add(entity);
+                return true;
+            }
+            return false;
+        }
+
+        if (!contains(entity)) return false;
+        swapRemove(entity);
+        return true;
+    }
+
+    @Override
+    public Entity remove(int index) {
+        Entity entity = get(index);
+        remove(entity);
+        return entity;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = false;
+        for (Object o : c) {
+            changed |= remove(o);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Entity)) return false;
+        Entity entity = (Entity)o;
+        int index = entity.listIndex;
+        return index >= 0 && index < size && data[index] == entity;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            data[i].listIndex = -1;
+            data[i].pendingRemove = false;
+            data[i] = null;
+        }
+        size = 0;
+        players.clear();
+        pendingAdds.clear();
+        pendingRemoves.clear();
+        modCount++;
+    }
+
+    /**
+     * Queue structural changes until the matching endDeferring()
+     */
+    public void beginDeferring() {
+        deferDepth++;
+    }
+
+    /**
+     * Sync point: apply queued removes, then queued adds - O(changes)
+     */
+    public void endDeferring() {
+        if (deferDepth == 0) return;
+        if (--deferDepth > 0) return;
+
+        for (Entity entity : pendingRemoves) {
+            entity.pendingRemove = false;
+            if (contains(entity)) {
+                swapRemove(entity);
+            }
+        }
+        pendingRemoves.clear();
+
+        for (Entity entity : pendingAdds) {
+            append(entity);
+        }
+        pendingAdds.clear();
+    }
+
+    public boolean isDeferring() {
+        return deferDepth > 0;
+    }
+
+    /**
+     * Players currently in the list (read-only view, updated at add/remove)
+     */
+    public List<Entity> getPlayers() {
+        return playersView;
+    }
+
+    private void append(Entity entity) {
+        if (contains(entity)) return;
+
+        if (size == data.length) {
+            data = Arrays.copyOf(data, size * 2);
+        }
+        entity.listIndex = size;
+        data[size++] = entity;
+        if (entity.getType() == EntityType.PLAYER) {
+            players.add(entity);
+        }
+        modCount++;
+    }
+
+    private void swapRemove(Entity entity) {
+        int index = entity.listIndex;
+        int last = --size;
+
+        Entity moved = data[last];
+        data[index] = moved;
+        moved.listIndex = index;
+
+        data[last] = null;
+        entity.listIndex = -1;
+        if (!players.isEmpty()) {
+            players.remove(entity);  // a handful at most; robust to a changed type
+        }
+        modCount++;
+    }
+}
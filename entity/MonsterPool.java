@@ -0,0 +1,142 @@
+package dev.main.entity;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import dev.main.ai.AI;
+import dev.main.input.Component;
+import dev.main.input.Movement;
+import dev.main.input.Position;
+import dev.main.pathfinder.Path;
+import dev.main.sprite.Sprite;
+import dev.main.stats.Stats;
+import dev.main.util.Alert;
+
+/**
+ * ★ NEW: Per-monster-type pools for spawn/respawn cycles.
+ *
+ * Dead monsters come back here instead of going to the GC; the next spawn
+ * of the same type resets and reuses the entity and all its components.
+ * Keyed by type + level + tier because Stats and MonsterLevel are baked in
+ * at creation. One pool per GameState (zones tick on separate threads).
+ */
+public class MonsterPool {
+
+    private static final int MAX_PER_TYPE = 32;  // don't hoard after a mass clear
+
+    private final Map<String, ArrayDeque<Entity>> free = new HashMap<>();
+
+    // Components a freshly created monster of each key has; anything else
+    // (Dead, buffs, indicators) is stripped on recycle
+    private final Map<String, Set<Class<? extends Component>>> templates = new HashMap<>();
+
+    private int hits = 0;
+    private int misses = 0;
+    private int recycled = 0;
+    private int discarded = 0;
+
+    /**
+     * Pooled equivalent of EntityFactory.createMonster()
+     */
+    public Entity acquire(String monsterType, float x, float y, int level, MobTier tier) {
+        String key = key(monsterType, level, tier);
+
+        ArrayDeque<Entity> stack = free.get(key);
+        if (stack != null && !stack.isEmpty()) {
+            Entity monster = stack.pop();
+            reset(monster, x, y);
+            hits++;
+            return monster;
+        }
+
+        misses++;
+        Entity monster = EntityFactory.createMonster(monsterType, x, y, level, tier);
+        if (!templates.containsKey(key)) {
+            Set<Class<? extends Component>> template = monster.getComponentTypes();
+            template.add(Respawn.class);  // added by the spawner, reused across lives
+            templates.put(key, template);
+        }
+        return monster;
+    }
+
+    /**
+     * Take back a monster that has left the world (after Entity.release())
+     */
+    public void recycle(Entity monster) {
+        MonsterLevel monsterLevel = monster.getComponent(MonsterLevel.class);
+        if (monsterLevel == null) return;
+
+        String key = key(monster.getName(), monsterLevel.level, monsterLevel.tier);
+        Set<Class<? extends Component>> template = templates.get(key);
+        if (template == null) return;  // not created by this pool
+
+        ArrayDeque<Entity> stack = free.computeIfAbsent(key, k -> new ArrayDeque<>());
+        if (stack.size() >= MAX_PER_TYPE) {
+            discarded++;
+            return;
+        }
+
+        monster.retainComponents(template);
+        stack.push(monster);
+        recycled++;
+    }
+
+    private void reset(Entity monster, float x, float y) {
+        monster.renew();  // new handle - AI/Combat refs to the previous life stay stale
+
+        Position pos = monster.getComponent(Position.class);
+        if (pos != null) pos.snapTo(x, y);
+
+        Stats stats = monster.getComponent(Stats.class);
+        if (stats != null) stats.restoreFull();
+
+        Combat combat = monster.getComponent(Combat.class);
+        if (combat != null) combat.reset();
+
+        Movement movement = monster.getComponent(Movement.class);
+        if (movement != null) movement.reset();
+
+        Path path = monster.getComponent(Path.class);
+        if (path != null) path.clear();
+
+        AI ai = monster.getComponent(AI.class);
+        if (ai != null) ai.reset(x, y);
+
+        Sprite sprite = monster.getComponent(Sprite.class);
+        if (sprite != null) sprite.reset();
+
+        Alert alert = monster.getComponent(Alert.class);
+        if (alert != null) alert.hide();
+
+        NameTag nameTag = monster.getComponent(NameTag.class);
+        if (nameTag != null) nameTag.hide();
+    }
+
+    private static String key(String monsterType, int level, MobTier tier) {
+        return monsterType + "|" + level + "|" + tier;
+    }
+
+    public float getHitRate() {
+        int total = hits + misses;
+        return total == 0 ? 0f : hits / (float)total;
+    }
+
+    public int getPooledCount() {
+        int count = 0;
+        for (ArrayDeque<Entity> stack : free.values()) {
+            count += stack.size();
+        }
+        return count;
+    }
+
+    public void clear() {
+        free.clear();
+    }
+
+    public String getStatsString() {
+        return String.format("MonsterPool: hit rate %.1f%% (%d hits / %d misses), %d recycled, %d discarded, %d pooled",
+                             getHitRate() * 100f, hits, misses, recycled, discarded, getPooledCount());
+    }
+}
@@ -11,6 +11,8 @@ public class Respawn implements Component {
     public float spawnX;
     public float spawnY;
     
+    public SpawnPoint spawnPoint;  // ★ NEW: Owner - no spawn point search on death
+    
     public Respawn(String monsterType, float spawnX, float spawnY, float respawnDelay) {
         this.monsterType = monsterType;
         this.spawnX = spawnX;
@@ -0,0 +1,44 @@
+package dev.main.entity;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * ★ NEW: Pending respawns in a min-heap keyed by due time (game clock).
+ *
+ * A spawn point enters the heap when its monster dies and leaves it when it
+ * comes due, so a tick peeks the top and touches only spawns that are
+ * actually ready - occupied spawn points cost nothing, however many a zone has.
+ */
+public class RespawnScheduler {
+
+    private final PriorityQueue<SpawnPoint> heap =
+        new PriorityQueue<>(Comparator.comparingDouble((SpawnPoint sp) -> sp.respawnAt));
+
+    /**
+     * Queue spawnPoint to respawn respawnDelay seconds after now
+     */
+    public void schedule(SpawnPoint spawnPoint, double now) {
+        spawnPoint.respawnAt = now + spawnPoint.respawnDelay;
+        heap.add(spawnPoint);
+    }
+
+    /**
+     * Next spawn point that is due at now, or null if none are
+     */
+    public SpawnPoint pollDue(double now) {
+        SpawnPoint next = heap.peek();
+        if (next == null || next.respawnAt > now) {
+            return null;
+        }
+        return heap.poll();
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    public void clear() {
+        heap.clear();
+    }
+}
@@ -0,0 +1,209 @@
+package dev.main.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.main.input.Position;
+import dev.main.tile.TileMap;
+
+/**
+ * ★ NEW: Uniform spatial hash for proximity queries.
+ *
+ * Cells are CELL_TILES x CELL_TILES map tiles; cell (cx, cy) hashes into a
+ * fixed bucket table, so there is no map-size limit and no boxing. Entities
+ * are moved between buckets only when they cross a cell boundary (update()),
+ * and every query touches just the cells its shape overlaps - cost follows
+ * local density, not zone population.
+ */
+public class SpatialHash {
+
+    public static final int CELL_TILES = 2;
+    public static final int CELL_SIZE = TileMap.TILE_SIZE * CELL_TILES;
+
+    private static final int BUCKET_BITS = 10;
+    private static final int BUCKET_MASK = (1 << BUCKET_BITS) - 1;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayList<Entity>[] buckets = new ArrayList[1 << BUCKET_BITS];
+
+    private int count = 0;
+
+    // Reused by nearest()
+    private final List<Entity> candidates = new ArrayList<>();
+
+    /**
+     * Insert, or move if the entity changed cell. Cheap no-op otherwise.
+     */
+    public void update(Entity entity) {
+        Position pos = entity.getComponent(Position.class);
+        if (pos == null) return;
+
+        int cx = cellOf(pos.x);
+        int cy = cellOf(pos.y);
+
+        if (entity.spatialBucket >= 0) {
+            if (entity.cellX == cx && entity.cellY == cy) return;
+            removeFromBucket(entity);
+        } else {
+            count++;
+        }
+
+        entity.cellX = cx;
+        entity.cellY = cy;
+        ArrayList<Entity> bucket = bucket(cx, cy);
+        entity.spatialBucket = bucketIndex(cx, cy);
+        entity.spatialSlot = bucket.size();
+        bucket.add(entity);
+    }
+
+    public void remove(Entity entity) {
+        if (entity.spatialBucket < 0) return;
+        removeFromBucket(entity);
+        count--;
+    }
+
+    public void clear() {
+        for (ArrayList<Entity> bucket : buckets) {
+            if (bucket == null) continue;
+            for (Entity entity : bucket) {
+                entity.spatialBucket = -1;
+            }
+            bucket.clear();
+        }
+        count = 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Entities whose position is within radius of (x, y). type = null for any.
+     * Results are appended to out.
+     */
+    public void queryRadius(float x, float y, float radius, EntityType type, List<Entity> out) {
+        float radiusSq = radius * radius;
+        int minCx = cellOf(x - radius), maxCx = cellOf(x + radius);
+        int minCy = cellOf(y - radius), maxCy = cellOf(y + radius);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                ArrayList<Entity> bucket = buckets[bucketIndex(cx, cy)];
+                if (bucket == null) continue;
+
+                for (int i = 0, n = bucket.size(); i < n; i++) {
+                    Entity entity = bucket.get(i);
+                    if (entity.cellX != cx || entity.cellY != cy) continue;  // hash collision
+                    if (type != null && entity.getType() != type) continue;
+
+                    Position pos = entity.getComponent(Position.class);
+                    float dx = pos.x - x;
+                    float dy = pos.y - y;
+                    if (dx * dx + dy * dy <= radiusSq) {
+                        out.add(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Entities whose position lies inside the rectangle. type = null for any.
+     */
+    public void queryAABB(float minX, float minY, float maxX, float maxY, EntityType type, List<Entity> out) {
+        int minCx = cellOf(minX), maxCx = cellOf(maxX);
+        int minCy = cellOf(minY), maxCy = cellOf(maxY);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                ArrayList<Entity> bucket = buckets[bucketIndex(cx, cy)];
+                if (bucket == null) continue;
+
+                for (int i = 0, n = bucket.size(); i < n; i++) {
+                    Entity entity = bucket.get(i);
+                    if (entity.cellX != cx || entity.cellY != cy) continue;
+                    if (type != null && entity.getType() != type) continue;
+
+                    Position pos = entity.getComponent(Position.class);
+                    if (pos.x >= minX && pos.x <= maxX && pos.y >= minY && pos.y <= maxY) {
+                        out.add(entity);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Up to k entities nearest to (x, y) within maxRadius, closest first.
+     * The search radius doubles from one cell until k are found.
+     */
+    public void nearest(float x, float y, int k, float maxRadius, EntityType type, List<Entity> out) {
+        if (k <= 0) return;
+
+        float radius = Math.min(CELL_SIZE, maxRadius);
+        while (true) {
+            candidates.clear();
+            queryRadius(x, y, radius, type, candidates);
+            if (candidates.size() >= k || radius >= maxRadius) break;
+            radius = Math.min(radius * 2f, maxRadius);
+        }
+
+        // Partial selection sort - k is small
+        int found = Math.min(k, candidates.size());
+        for (int i = 0; i < found; i++) {
+            int best = i;
+            float bestDist = distanceSq(candidates.get(i), x, y);
+            for (int j = i + 1; j < candidates.size(); j++) {
+                float d = distanceSq(candidates.get(j), x, y);
+                if (d < bestDist) {
+                    best = j;
+                    bestDist = d;
+                }
+            }
+            Entity swap = candidates.get(i);
+            candidates.set(i, candidates.get(best));
+            candidates.set(best, swap);
+            out.add(candidates.get(i));
+        }
+        candidates.clear();
+    }
+
+    private static float distanceSq(Entity entity, float x, float y) {
+        Position pos = entity.getComponent(Position.class);
+        float dx = pos.x - x;
+        float dy = pos.y - y;
+        return dx * dx + dy * dy;
+    }
+
+    private void removeFromBucket(Entity entity) {
+        ArrayList<Entity> bucket = buckets[entity.spatialBucket];
+        int slot = entity.spatialSlot;
+        int last = bucket.size() - 1;
+
+        Entity moved = bucket.get(last);
+        bucket.set(slot, moved);
+        moved.spatialSlot = slot;
+        bucket.remove(last);
+
+        entity.spatialBucket = -1;
+    }
+
+    private ArrayList<Entity> bucket(int cx, int cy) {
+        int index = bucketIndex(cx, cy);
+        ArrayList<Entity> bucket = buckets[index];
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets[index] = bucket;
+        }
+        return bucket;
+    }
+
+    private static int cellOf(float coord) {
+        return (int)Math.floor(coord / CELL_SIZE);
+    }
+
+    private static int bucketIndex(int cx, int cy) {
+        int h = cx * 73856093 ^ cy * 19349663;
+        return (h ^ (h >>> 16)) & BUCKET_MASK;
+    }
+}
@@ -10,7 +10,7 @@ public class SpawnPoint {
     
     public Entity currentMonster;
     public boolean isOccupied;
-    public float respawnTimer;
+    public double respawnAt;    // ★ NEW: Game time it comes due (RespawnScheduler)
     
     /**
      * NEW: Constructor with level and tier
@@ -24,7 +24,6 @@ public class SpawnPoint {
         this.tier = tier;
         this.currentMonster = null;
         this.isOccupied = false;
-        this.respawnTimer = 0;
     }
     
     /**
@@ -34,26 +33,22 @@ public class SpawnPoint {
         this(monsterType, x, y, respawnDelay, 1, MobTier.NORMAL);
     }
     
-    public void update(float delta) {
-        if (!isOccupied) {
-            respawnTimer += delta;
-        }
-    }
-    
-    public boolean canRespawn() {
-        return !isOccupied && respawnTimer >= respawnDelay;
+    /**
+     * ★ NEW: Seconds until respawn at game time now (0 if occupied or due)
+     */
+    public float getRespawnRemaining(double now) {
+        if (isOccupied) return 0f;
+        return (float)Math.max(0.0, respawnAt - now);
     }
     
     public void spawn(Entity monster) {
         this.currentMonster = monster;
         this.isOccupied = true;
-        this.respawnTimer = 0;
     }
     
     public void onMonsterDeath() {
         this.currentMonster = null;
         this.isOccupied = false;
-        this.respawnTimer = 0;
     }
     
     @Override
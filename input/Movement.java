@@ -11,6 +11,10 @@ public class Movement implements Component {
     public boolean isRunning;
     public boolean isHasted;  // NEW: Haste effect (3x speed)
     
+    // ★ NEW: Velocity this tick (px/s), written by seek/crowd steering
+    public float velocityX;
+    public float velocityY;
+    
     public int direction;
     public int lastDirection;
     
@@ -50,9 +54,18 @@ public class Movement implements Component {
         this.isRunning = false;
         this.isHasted = false;  // Clear haste when stopping
         this.currentSpeed = walkSpeed;
+        this.velocityX = 0f;
+        this.velocityY = 0f;
         this.lastDirection = this.direction;
     }
     
+    // ★ NEW: Standing still, facing south (pooled monster respawn)
+    public void reset() {
+        stopMoving();
+        this.direction = DIR_SOUTH;
+        this.lastDirection = DIR_SOUTH;
+    }
+    
     public void stopRunning() {
         this.isRunning = false;
         updateSpeed();
@@ -3,7 +3,7 @@ package dev.main.input;
 
 public class Position implements Component {
     public float x, y;
-    public float prevX, prevY;  // For interpolation later
+    public float prevX, prevY;  // Position at the previous tick (render interpolation)
     
     public Position(float x, float y) {
         this.x = x;
@@ -11,4 +11,31 @@ public class Position implements Component {
         this.prevX = x;
         this.prevY = y;
     }
+    
+    /**
+     * ★ NEW: Remember where we are before this tick moves us
+     */
+    public void savePrevious() {
+        prevX = x;
+        prevY = y;
+    }
+    
+    /**
+     * ★ NEW: Move instantly (teleport/respawn) - no smear between old and new spot
+     */
+    public void snapTo(float x, float y) {
+        this.x = x;
+        this.y = y;
+        this.prevX = x;
+        this.prevY = y;
+    }
+    
+    // ★ NEW: alpha = 0 -> previous tick, alpha = 1 -> current tick
+    public float getInterpolatedX(float alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+    
+    public float getInterpolatedY(float alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
 }
\ No newline at end of file
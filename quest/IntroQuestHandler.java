@@ -312,7 +312,7 @@ public class IntroQuestHandler {
         BuffManager buffManager = player.getComponent(BuffManager.class);
         if (buffManager != null) {
             Buff blessing = BuffFactory.createFionnesBlessing();
-            buffManager.addBuff(blessing);
+            buffManager.addBuff(blessing, gameState.getTimers());
             System.out.println("Fionne's Blessing activated! +20% EXP for 20,000 kills");
         }
         
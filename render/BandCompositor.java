@@ -0,0 +1,173 @@
+package dev.main.render;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import dev.main.Engine;
+import dev.main.sprite.SpriteAtlas;
+import dev.main.tile.TileMap;
+
+/**
+ * ★ NEW: Ground + ground decor composited in parallel horizontal bands.
+ *
+ * The view is split into equal-height strips, each with its own opaque
+ * back image. Every frame one ForkJoin task per strip draws that strip's
+ * map rows and the decor overlapping it (software loops into a private
+ * BufferedImage, so strips never contend), then the caller blits the strips
+ * onto the back buffer top to bottom. Pays off when the window is large
+ * (Engine.SCALE) and there are cores to spare; off by default.
+ *
+ * render() must be called from one thread at a time; the decor callback runs
+ * on the pool's threads concurrently and must only read.
+ */
+public class BandCompositor {
+
+    /**
+     * Draws ground decor in screen space into one band. top/bottom are the
+     * band's screen rows, for culling; the clip is already set.
+     */
+    public interface DecorPass {
+        void draw(Graphics2D g, int top, int bottom);
+    }
+
+    private static final Color CLEAR_COLOR = Color.GRAY;  // same as Engine's clear
+
+    private final class Band extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        final int top;
+        final int height;
+        final BufferedImage image;
+
+        Band(int top, int height) {
+            this.top = top;
+            this.height = height;
+            this.image = SpriteAtlas.createCompatibleImage(Engine.WIDTH, height, Transparency.OPAQUE);
+        }
+
+        @Override
+        protected void compute() {
+            Graphics2D g = image.createGraphics();
+            try {
+                if (hints != null) {
+                    g.setRenderingHints(hints);
+                }
+                g.setColor(CLEAR_COLOR);
+                g.fillRect(0, 0, Engine.WIDTH, height);
+
+                if (map != null) {
+                    map.renderBand(g, cameraX, cameraY, top, height);
+                }
+
+                if (decor != null) {
+                    g.translate(0, -top);
+                    g.clipRect(0, top, Engine.WIDTH, height);
+                    decor.draw(g, top, top + height);
+                }
+            } finally {
+                g.dispose();
+            }
+        }
+    }
+
+    private final class Frame extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            for (Band band : bands) {
+                band.reinitialize();
+            }
+            invokeAll(bands);
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final Band[] bands;
+    private final Frame frame = new Frame();
+
+    // Current frame's inputs, read by the band tasks
+    private TileMap map;
+    private float cameraX;
+    private float cameraY;
+    private DecorPass decor;
+    private RenderingHints hints;
+
+    private boolean failed = false;
+    private long frames = 0;
+    private long busyNanos = 0;
+
+    /**
+     * @param bandCount strips (and pool threads); 0 = one per available core
+     */
+    public BandCompositor(int bandCount) {
+        if (bandCount <= 0) {
+            bandCount = Runtime.getRuntime().availableProcessors();
+        }
+        bandCount = Math.max(1, Math.min(bandCount, Engine.HEIGHT / TileMap.TILE_SIZE));
+
+        this.pool = new ForkJoinPool(bandCount);  // workers are daemon threads
+        this.bands = new Band[bandCount];
+
+        int top = 0;
+        for (int i = 0; i < bandCount; i++) {
+            int bottom = (int)((long)Engine.HEIGHT * (i + 1) / bandCount);
+            bands[i] = new Band(top, bottom - top);
+            top = bottom;
+        }
+        System.out.println("BandCompositor: " + bandCount + " bands of ~" + (Engine.HEIGHT / bandCount) + "px");
+    }
+
+    /**
+     * Composite map + decor and draw the bands onto g at (0, 0).
+     * @return false if compositing failed; the caller draws sequentially
+     */
+    public boolean render(Graphics2D g, TileMap map, float cameraX, float cameraY, DecorPass decor) {
+        if (failed) return false;
+
+        long start = System.nanoTime();
+        this.map = map;
+        this.cameraX = cameraX;
+        this.cameraY = cameraY;
+        this.decor = decor;
+        this.hints = g.getRenderingHints();
+
+        try {
+            frame.reinitialize();
+            pool.invoke(frame);
+        } catch (RuntimeException e) {
+            System.err.println("BandCompositor disabled: " + e);
+            failed = true;
+            return false;
+        } finally {
+            this.map = null;
+            this.decor = null;
+        }
+
+        for (Band band : bands) {
+            g.drawImage(band.image, 0, band.top, null);
+        }
+
+        busyNanos += System.nanoTime() - start;
+        frames++;
+        return true;
+    }
+
+    public int getBandCount() {
+        return bands.length;
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    public String getStatsString() {
+        return String.format("Bands: %d, %.3fms/frame", bands.length,
+                             frames == 0 ? 0f : busyNanos / (float)frames / 1_000_000f);
+    }
+}
@@ -0,0 +1,115 @@
+package dev.main.render;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ★ NEW: Allocation-free draw-order sorting.
+ *
+ * insertionSort() is for lists kept from the previous frame - entities only
+ * move a little per frame, so the list is nearly sorted and the pass is ~O(n).
+ * radixSort() is for lists rebuilt from scratch (the snapshot), on int keys
+ * that pack layer priority over quantized depth (see packKey). Scratch arrays
+ * only grow, so neither sort allocates once warmed up.
+ */
+public class DepthSort {
+
+    private static final int DEPTH_BITS = 24;
+    private static final int DEPTH_BIAS = 1 << (DEPTH_BITS - 1);
+    private static final int DEPTH_MAX = (1 << DEPTH_BITS) - 1;
+    private static final float DEPTH_SCALE = 4f;  // quarter-pixel steps
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private final int[] counts = new int[RADIX];
+    private int[] keys = new int[64];
+    private int[] keysTmp = new int[64];
+    private Object[] items = new Object[64];
+    private Object[] itemsTmp = new Object[64];
+
+    /**
+     * Layer priority in the top byte, depth below it. Non-negative for
+     * priorities < 128, so keys sort the same signed or unsigned.
+     */
+    public static int packKey(int layerPriority, float depth) {
+        int d = Math.round(depth * DEPTH_SCALE) + DEPTH_BIAS;
+        if (d < 0) d = 0;
+        if (d > DEPTH_MAX) d = DEPTH_MAX;
+        return (layerPriority << DEPTH_BITS) | d;
+    }
+
+    /**
+     * Stable in-place insertion sort; cheap when the list is already close to sorted
+     */
+    public static <T extends Comparable<? super T>> void insertionSort(List<T> list) {
+        for (int i = 1, n = list.size(); i < n; i++) {
+            T item = list.get(i);
+            int j = i - 1;
+            if (list.get(j).compareTo(item) <= 0) continue;  // already in place
+
+            while (j >= 0 && list.get(j).compareTo(item) > 0) {
+                list.set(j + 1, list.get(j));
+                j--;
+            }
+            list.set(j + 1, item);
+        }
+    }
+
+    /**
+     * Stable LSD radix sort of the snapshot's views by sortKey.
+     * Digits every key shares are skipped, so a typical frame takes 2-3 passes.
+     */
+    public void radixSort(List<RenderSnapshot.EntityView> views) {
+        int n = views.size();
+        if (n < 2) return;
+        ensureCapacity(n);
+
+        int[] srcKeys = keys, dstKeys = keysTmp;
+        Object[] src = items, dst = itemsTmp;
+        for (int i = 0; i < n; i++) {
+            RenderSnapshot.EntityView view = views.get(i);
+            src[i] = view;
+            srcKeys[i] = view.sortKey;
+        }
+
+        for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < n; i++) {
+                counts[(srcKeys[i] >>> shift) & RADIX_MASK]++;
+            }
+            if (counts[(srcKeys[0] >>> shift) & RADIX_MASK] == n) continue;  // uniform digit
+
+            int sum = 0;
+            for (int b = 0; b < RADIX; b++) {
+                int c = counts[b];
+                counts[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                int slot = counts[(srcKeys[i] >>> shift) & RADIX_MASK]++;
+                dstKeys[slot] = srcKeys[i];
+                dst[slot] = src[i];
+            }
+
+            int[] swapKeys = srcKeys; srcKeys = dstKeys; dstKeys = swapKeys;
+            Object[] swap = src; src = dst; dst = swap;
+        }
+
+        for (int i = 0; i < n; i++) {
+            views.set(i, (RenderSnapshot.EntityView)src[i]);
+        }
+        Arrays.fill(items, 0, n, null);
+        Arrays.fill(itemsTmp, 0, n, null);
+    }
+
+    private void ensureCapacity(int n) {
+        if (n <= keys.length) return;
+        int size = Math.max(n, keys.length * 2);
+        keys = new int[size];
+        keysTmp = new int[size];
+        items = new Object[size];
+        itemsTmp = new Object[size];
+    }
+}
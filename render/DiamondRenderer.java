@@ -1,6 +1,5 @@
 package dev.main.render;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
@@ -27,31 +26,31 @@ public class DiamondRenderer {
         // Draw outer glow
         for (int i = 3; i > 0; i--) {
             int glowAlpha = (int)(alphaValue * 0.3f * (i / 3f));
-            g.setColor(new Color(100, 200, 255, glowAlpha));
-            g.setStroke(new BasicStroke(i * 2f));
+            g.setColor(Palette.color(100, 200, 255, glowAlpha));
+            g.setStroke(Palette.stroke(i * 2f));
             g.drawPolygon(diamond);
         }
         
         // Fill
-        g.setColor(new Color(150, 220, 255, (int)(alphaValue * 0.6f)));
+        g.setColor(Palette.color(150, 220, 255, (int)(alphaValue * 0.6f)));
         g.fillPolygon(diamond);
         
         // Inner bright core
         int[] innerXPoints = {0, size/2, 0, -size/2};
         int[] innerYPoints = {-size/2, 0, size/2, 0};
         Polygon innerDiamond = new Polygon(innerXPoints, innerYPoints, 4);
-        g.setColor(new Color(200, 240, 255, alphaValue));
+        g.setColor(Palette.color(200, 240, 255, alphaValue));
         g.fillPolygon(innerDiamond);
         
         // Crystal highlights
-        g.setColor(new Color(255, 255, 255, alphaValue));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(Palette.color(255, 255, 255, alphaValue));
+        g.setStroke(Palette.stroke(2f));
         g.drawLine(-size/4, -size/2, -size/4, -size/4);
         g.drawLine(size/3, -size/3, size/2, -size/4);
         
         // Sharp border
-        g.setColor(new Color(80, 160, 220, alphaValue));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(Palette.color(80, 160, 220, alphaValue));
+        g.setStroke(Palette.stroke(2f));
         g.drawPolygon(diamond);
         
         // Restore original state
@@ -72,12 +71,12 @@ public class DiamondRenderer {
         Polygon diamond = new Polygon(xPoints, yPoints, 4);
         
         // Fill
-        g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 180));
+        g.setColor(Palette.withAlpha(color, 180));
         g.fillPolygon(diamond);
         
         // Border
-        g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 255));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(Palette.withAlpha(color, 255));
+        g.setStroke(Palette.stroke(2f));
         g.drawPolygon(diamond);
         
         g.setStroke(originalStroke);  // NEW
@@ -98,12 +97,12 @@ public class DiamondRenderer {
         Polygon diamond = new Polygon(xPoints, yPoints, 4);
         
         // Outer ring
-        g.setColor(new Color(100, 200, 255, 100));
-        g.setStroke(new BasicStroke(3f));
+        g.setColor(Palette.color(100, 200, 255, 100));
+        g.setStroke(Palette.stroke(3f));
         g.drawPolygon(diamond);
         
         // Fill
-        g.setColor(new Color(150, 220, 255, 150));
+        g.setColor(Palette.color(150, 220, 255, 150));
         g.fillPolygon(diamond);
         
         // Inner diamond
@@ -111,12 +110,12 @@ public class DiamondRenderer {
         int[] innerX = {0, innerSize, 0, -innerSize};
         int[] innerY = {-innerSize, 0, innerSize, 0};
         Polygon inner = new Polygon(innerX, innerY, 4);
-        g.setColor(new Color(200, 240, 255, 200));
+        g.setColor(Palette.color(200, 240, 255, 200));
         g.fillPolygon(inner);
         
         // Border
-        g.setColor(new Color(80, 160, 220, 220));
-        g.setStroke(new BasicStroke(2f));
+        g.setColor(Palette.color(80, 160, 220, 220));
+        g.setStroke(Palette.stroke(2f));
         g.drawPolygon(diamond);
         
         g.setStroke(originalStroke);  // NEW
@@ -0,0 +1,161 @@
+package dev.main.render;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ★ NEW: Shared Color / Stroke / Font cache for per-frame drawing code.
+ *
+ * Colors are interned by ARGB with alpha quantized to ALPHA_STEP, so fades
+ * computed from a float reuse at most 64 instances per hue instead of
+ * allocating one per draw. Strokes are interned by width, fonts by
+ * (name, style, size). Lookups hash into int-keyed tables and never allocate
+ * once warmed up. All returned objects are immutable and safe to share.
+ */
+public final class Palette {
+
+    private static final int ALPHA_STEP = 4;
+    private static final int MAX_FONT_SIZE = 128;
+
+    private static final IntTable<Color> colors = new IntTable<>(256);
+    private static final IntTable<BasicStroke> strokes = new IntTable<>(16);
+    private static final Map<String, Font[]> fonts = new HashMap<>();
+
+    private Palette() {}
+
+    public static Color color(int r, int g, int b) {
+        return color(r, g, b, 255);
+    }
+
+    /**
+     * Shared color; components are clamped to 0-255 and alpha is quantized
+     */
+    public static synchronized Color color(int r, int g, int b, int a) {
+        int argb = (quantizeAlpha(a) << 24) | (clamp(r) << 16) | (clamp(g) << 8) | clamp(b);
+        Color color = colors.get(argb);
+        if (color == null) {
+            color = new Color(argb, true);
+            colors.put(argb, color);
+        }
+        return color;
+    }
+
+    /**
+     * base with its alpha replaced (0-255)
+     */
+    public static Color withAlpha(Color base, int a) {
+        return color(base.getRed(), base.getGreen(), base.getBlue(), a);
+    }
+
+    /**
+     * base with its alpha replaced (0-1)
+     */
+    public static Color withAlpha(Color base, float alpha) {
+        return withAlpha(base, (int)(alpha * 255));
+    }
+
+    public static synchronized BasicStroke stroke(float width) {
+        int key = Float.floatToIntBits(width);
+        BasicStroke stroke = strokes.get(key);
+        if (stroke == null) {
+            stroke = new BasicStroke(width);
+            strokes.put(key, stroke);
+        }
+        return stroke;
+    }
+
+    public static synchronized Font font(String name, int style, int size) {
+        if (size <= 0 || size >= MAX_FONT_SIZE || style < 0 || style > 3) {
+            return new Font(name, style, size);
+        }
+        Font[] byStyleAndSize = fonts.get(name);
+        if (byStyleAndSize == null) {
+            byStyleAndSize = new Font[4 * MAX_FONT_SIZE];
+            fonts.put(name, byStyleAndSize);
+        }
+        int index = style * MAX_FONT_SIZE + size;
+        Font font = byStyleAndSize[index];
+        if (font == null) {
+            font = new Font(name, style, size);
+            byStyleAndSize[index] = font;
+        }
+        return font;
+    }
+
+    private static int quantizeAlpha(int a) {
+        if (a >= 255) return 255;
+        if (a <= 0) return 0;
+        int q = (a + ALPHA_STEP / 2) / ALPHA_STEP * ALPHA_STEP;
+        return Math.min(255, q);
+    }
+
+    private static int clamp(int c) {
+        return c < 0 ? 0 : (c > 255 ? 255 : c);
+    }
+
+    public static synchronized String getStatsString() {
+        return String.format("Palette: %d colors, %d strokes, %d font families",
+                             colors.size(), strokes.size(), fonts.size());
+    }
+
+    /**
+     * Open-addressing int -> value map (no boxing on lookup)
+     */
+    private static final class IntTable<V> {
+        private int[] keys;
+        private Object[] values;
+        private int size = 0;
+
+        IntTable(int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+        }
+
+        @SuppressWarnings("unchecked")
+        V get(int key) {
+            int mask = keys.length - 1;
+            for (int i = mix(key) & mask; values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) return (V)values[i];
+            }
+            return null;
+        }
+
+        void put(int key, V value) {
+            if ((size + 1) * 2 > keys.length) grow();
+            insert(key, value);
+            size++;
+        }
+
+        private void insert(int key, Object value) {
+            int mask = keys.length - 1;
+            int i = mix(key) & mask;
+            while (values[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+        }
+
+        private void grow() {
+            int[] oldKeys = keys;
+            Object[] oldValues = values;
+            keys = new int[oldKeys.length * 2];
+            values = new Object[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) insert(oldKeys[i], oldValues[i]);
+            }
+        }
+
+        int size() {
+            return size;
+        }
+
+        private static int mix(int h) {
+            h *= 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
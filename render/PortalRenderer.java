@@ -13,28 +13,43 @@ import dev.main.entity.Portal;
  */
 public class PortalRenderer {
     
+    // ★ NEW: Gradient stops are constant - built once, not per portal per frame
+    private static final float[] FRACTIONS = {0f, 0.5f, 1f};
+    private static final Color[] OUTER_COLORS = {
+        Palette.color(100, 150, 255, 200),
+        Palette.color(50, 100, 200, 100),
+        Palette.color(0, 50, 150, 0)
+    };
+    private static final Color[] INNER_COLORS = {
+        Palette.color(200, 220, 255, 255),
+        Palette.color(100, 150, 255, 100),
+        Palette.color(50, 100, 200, 0)
+    };
+    private static final Color PARTICLE_COLOR = Palette.color(150, 200, 255, 200);
+    
     public static void renderPortal(Graphics2D g, int screenX, int screenY, Portal portal) {
         if (!portal.isActive) return;
         
+        renderPortal(g, screenX, screenY, portal.animationTimer);
+    }
+    
+    /**
+     * Draw from a captured animation phase (render-thread snapshot path)
+     */
+    public static void renderPortal(Graphics2D g, int screenX, int screenY, float animationTimer) {
         // Save original composite
         AlphaComposite originalComposite = (AlphaComposite) g.getComposite();
         
         // Pulsing alpha effect
-        float pulseAlpha = 0.3f + 0.2f * (float)Math.sin(portal.animationTimer);
+        float pulseAlpha = 0.3f + 0.2f * (float)Math.sin(animationTimer);
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, pulseAlpha));
         
         // Outer glow (blue)
         int outerRadius = 48;
         Point2D center = new Point2D.Float(screenX, screenY);
-        float[] fractions = {0f, 0.5f, 1f};
-        Color[] colors = {
-            new Color(100, 150, 255, 200),
-            new Color(50, 100, 200, 100),
-            new Color(0, 50, 150, 0)
-        };
         
         RadialGradientPaint gradient = new RadialGradientPaint(
-            center, outerRadius, fractions, colors
+            center, outerRadius, FRACTIONS, OUTER_COLORS
         );
         
         g.setPaint(gradient);
@@ -44,14 +59,9 @@ public class PortalRenderer {
         // Inner core (bright white-blue)
         g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.6f));
         int innerRadius = 24;
-        Color[] innerColors = {
-            new Color(200, 220, 255, 255),
-            new Color(100, 150, 255, 100),
-            new Color(50, 100, 200, 0)
-        };
         
         RadialGradientPaint innerGradient = new RadialGradientPaint(
-            center, innerRadius, fractions, innerColors
+            center, innerRadius, FRACTIONS, INNER_COLORS
         );
         
         g.setPaint(innerGradient);
@@ -63,12 +73,12 @@ public class PortalRenderer {
         int numParticles = 8;
         int orbitRadius = 32;
         
+        g.setColor(PARTICLE_COLOR);
         for (int i = 0; i < numParticles; i++) {
-            float angle = portal.animationTimer + (i * (float)Math.PI * 2 / numParticles);
+            float angle = animationTimer + (i * (float)Math.PI * 2 / numParticles);
             int px = screenX + (int)(Math.cos(angle) * orbitRadius);
             int py = screenY + (int)(Math.sin(angle) * orbitRadius);
             
-            g.setColor(new Color(150, 200, 255, 200));
             g.fillOval(px - 3, py - 3, 6, 6);
         }
         
@@ -0,0 +1,562 @@
+package dev.main.render;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+/**
+ * ★ NEW: Recorded draw calls, replayed onto any Graphics2D.
+ *
+ * Each command is a fixed-stride row in an int array (opcode, resource ids,
+ * coordinates) plus one float (image alpha / stroke width); images, strings,
+ * fonts and colors live in a resource table and are referenced by id, so a
+ * frame costs no per-command objects. Commands are grouped into passes:
+ * an ordered pass keeps submission order (depth-sorted sprites), a sortable
+ * pass may be reordered by state key (texture / font / color / stroke) so
+ * replay() changes Graphics2D state as rarely as possible.
+ *
+ * Not thread-safe; build and replay from one thread, or copy() to hand off.
+ */
+public class RenderCommandBuffer {
+
+    public static final int OP_IMAGE = 1;         // ref, x, y (alpha)
+    public static final int OP_IMAGE_REGION = 2;  // ref, x, y, w, h, sx, sy
+    public static final int OP_FILL_RECT = 3;     // color, x, y, w, h
+    public static final int OP_DRAW_RECT = 4;     // color, x, y, w, h (stroke)
+    public static final int OP_FILL_OVAL = 5;     // color, x, y, w, h
+    public static final int OP_DRAW_OVAL = 6;     // color, x, y, w, h (stroke)
+    public static final int OP_TEXT = 7;          // ref, font, color, x, y
+
+    // Row layout
+    private static final int STRIDE = 10;
+    private static final int F_OP = 0;
+    private static final int F_REF = 1;
+    private static final int F_FONT = 2;
+    private static final int F_COLOR = 3;
+    private static final int F_X = 4;
+    private static final int F_Y = 5;
+    private static final int F_W = 6;
+    private static final int F_H = 7;
+    private static final int F_SX = 8;
+    private static final int F_SY = 9;
+
+    // Sort key: pass (8 bits) | state (24 bits) | sequence (20 bits)
+    private static final int SEQ_BITS = 20;
+    private static final int MAX_COMMANDS = 1 << SEQ_BITS;
+    private static final int STATE_BITS = 24;
+    private static final int MAX_PASSES = 256;
+
+    private static final int MAGIC = 0x52434246;  // "RCBF"
+    private static final int VERSION = 1;
+
+    private int[] data = new int[STRIDE * 256];
+    private float[] params = new float[256];
+    private long[] keys = new long[256];
+    private int count = 0;
+
+    private final boolean[] sortablePasses = new boolean[MAX_PASSES];
+    private int pass = -1;
+    private boolean sorted = false;
+
+    // Resource table; ids are indexes, interned by identity
+    private Object[] resources = new Object[64];
+    private int resourceCount = 0;
+    private Object[] internKeys = new Object[128];
+    private int[] internIds = new int[128];
+
+    // Stats of the last replay()
+    private int lastStateChanges = 0;
+
+    /**
+     * Drop all commands and resources; call at the start of each frame
+     */
+    public void reset() {
+        count = 0;
+        pass = -1;
+        sorted = false;
+        Arrays.fill(resources, 0, resourceCount, null);
+        Arrays.fill(internKeys, null);
+        resourceCount = 0;
+    }
+
+    /**
+     * Start a new pass. Passes replay in the order they were begun.
+     * @param sortable commands in this pass don't overlap in a way that
+     *                 matters, so they may be grouped by state
+     * @return the pass index (for replay ranges)
+     */
+    public int beginPass(boolean sortable) {
+        if (pass + 1 >= MAX_PASSES) {
+            throw new IllegalStateException("Too many passes in one frame");
+        }
+        pass++;
+        sortablePasses[pass] = sortable;
+        return pass;
+    }
+
+    public int getPassCount() {
+        return pass + 1;
+    }
+
+    // ========================================
+    // RECORDING
+    // ========================================
+
+    public void drawImage(BufferedImage image, int x, int y) {
+        drawImage(image, x, y, 1f);
+    }
+
+    public void drawImage(BufferedImage image, int x, int y, float alpha) {
+        if (image == null || alpha <= 0f) return;
+        int ref = intern(image);
+        int row = add(OP_IMAGE, alpha, imageState(ref, alpha));
+        data[row + F_REF] = ref;
+        data[row + F_X] = x;
+        data[row + F_Y] = y;
+    }
+
+    /**
+     * width x height sub-rectangle at (srcX, srcY) of image, drawn at (x, y)
+     */
+    public void drawImageRegion(BufferedImage image, int x, int y, int width, int height, int srcX, int srcY) {
+        if (image == null) return;
+        int ref = intern(image);
+        int row = add(OP_IMAGE_REGION, 1f, imageState(ref, 1f));
+        data[row + F_REF] = ref;
+        data[row + F_X] = x;
+        data[row + F_Y] = y;
+        data[row + F_W] = width;
+        data[row + F_H] = height;
+        data[row + F_SX] = srcX;
+        data[row + F_SY] = srcY;
+    }
+
+    public void fillRect(Color color, int x, int y, int width, int height) {
+        shape(OP_FILL_RECT, color, x, y, width, height, 1f);
+    }
+
+    public void drawRect(Color color, float strokeWidth, int x, int y, int width, int height) {
+        shape(OP_DRAW_RECT, color, x, y, width, height, strokeWidth);
+    }
+
+    public void fillOval(Color color, int x, int y, int width, int height) {
+        shape(OP_FILL_OVAL, color, x, y, width, height, 1f);
+    }
+
+    public void drawOval(Color color, float strokeWidth, int x, int y, int width, int height) {
+        shape(OP_DRAW_OVAL, color, x, y, width, height, strokeWidth);
+    }
+
+    public void drawString(String text, Font font, Color color, int x, int y) {
+        if (text == null) return;
+        int ref = intern(text);
+        int fontId = intern(font);
+        int colorId = intern(color);
+        // Font first, then color: font switches are the expensive ones
+        int row = add(OP_TEXT, 1f, (3 << 22) | ((fontId & 0x7FF) << 11) | (colorId & 0x7FF));
+        data[row + F_REF] = ref;
+        data[row + F_FONT] = fontId;
+        data[row + F_COLOR] = colorId;
+        data[row + F_X] = x;
+        data[row + F_Y] = y;
+    }
+
+    private void shape(int op, Color color, int x, int y, int width, int height, float strokeWidth) {
+        int colorId = intern(color);
+        // Fills before outlines, then by color, then by stroke
+        int kind = (op == OP_DRAW_RECT || op == OP_DRAW_OVAL) ? 2 : 1;
+        int stroke = Math.min(0x3FF, (int)(strokeWidth * 16f));
+        int row = add(op, strokeWidth, (kind << 22) | ((colorId & 0x7FF) << 11) | (stroke & 0x7FF));
+        data[row + F_COLOR] = colorId;
+        data[row + F_X] = x;
+        data[row + F_Y] = y;
+        data[row + F_W] = width;
+        data[row + F_H] = height;
+    }
+
+    // Images: by texture, then alpha
+    private static int imageState(int ref, float alpha) {
+        int a = Math.max(0, Math.min(255, Math.round(alpha * 255f)));
+        return ((ref & 0x3FFF) << 8) | a;
+    }
+
+    private int add(int op, float param, int state) {
+        if (pass < 0) {
+            beginPass(false);
+        }
+        if (count >= MAX_COMMANDS) {
+            throw new IllegalStateException("Command buffer full (" + MAX_COMMANDS + ")");
+        }
+        ensureCapacity(count + 1);
+
+        int row = count * STRIDE;
+        Arrays.fill(data, row, row + STRIDE, 0);
+        data[row + F_OP] = op;
+        params[count] = param;
+
+        long stateKey = sortablePasses[pass] ? (state & ((1L << STATE_BITS) - 1)) : 0L;
+        keys[count] = ((long)pass << (STATE_BITS + SEQ_BITS)) | (stateKey << SEQ_BITS) | count;
+
+        count++;
+        sorted = false;
+        return row;
+    }
+
+    // ========================================
+    // SORT + REPLAY
+    // ========================================
+
+    /**
+     * Order commands by pass, then (in sortable passes) by state.
+     * The sequence number in the low bits keeps the sort stable.
+     */
+    public void sort() {
+        if (!sorted) {
+            Arrays.sort(keys, 0, count);
+            sorted = true;
+        }
+    }
+
+    public void replay(Graphics2D g) {
+        replay(g, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Draw the commands of passes firstPass..lastPass (inclusive), sorted.
+     * The Graphics2D color, font, stroke and composite are restored after.
+     */
+    public void replay(Graphics2D g, int firstPass, int lastPass) {
+        sort();
+
+        Color originalColor = g.getColor();
+        Font originalFont = g.getFont();
+        Stroke originalStroke = g.getStroke();
+        Composite originalComposite = g.getComposite();
+
+        Object color = null;
+        Object font = null;
+        float stroke = Float.NaN;
+        float alpha = 1f;
+        int changes = 0;
+
+        for (int i = 0; i < count; i++) {
+            long key = keys[i];
+            int p = (int)(key >>> (STATE_BITS + SEQ_BITS));
+            if (p < firstPass) continue;
+            if (p > lastPass) break;
+
+            int index = (int)(key & (MAX_COMMANDS - 1));
+            int row = index * STRIDE;
+            int op = data[row + F_OP];
+            float param = params[index];
+
+            if (op == OP_IMAGE || op == OP_IMAGE_REGION) {
+                float a = op == OP_IMAGE ? param : 1f;
+                if (a != alpha) {
+                    g.setComposite(a >= 1f ? originalComposite : AlphaComposite.SrcOver.derive(a));
+                    alpha = a;
+                    changes++;
+                }
+            } else {
+                Object c = resources[data[row + F_COLOR]];
+                if (c != color) {
+                    g.setColor((Color)c);
+                    color = c;
+                    changes++;
+                }
+                if (alpha != 1f) {
+                    g.setComposite(originalComposite);
+                    alpha = 1f;
+                    changes++;
+                }
+            }
+
+            switch (op) {
+                case OP_IMAGE:
+                    g.drawImage((BufferedImage)resources[data[row + F_REF]], data[row + F_X], data[row + F_Y], null);
+                    break;
+
+                case OP_IMAGE_REGION: {
+                    int x = data[row + F_X], y = data[row + F_Y];
+                    int w = data[row + F_W], h = data[row + F_H];
+                    int sx = data[row + F_SX], sy = data[row + F_SY];
+                    g.drawImage((BufferedImage)resources[data[row + F_REF]],
+                                x, y, x + w, y + h, sx, sy, sx + w, sy + h, null);
+                    break;
+                }
+
+                case OP_FILL_RECT:
+                    g.fillRect(data[row + F_X], data[row + F_Y], data[row + F_W], data[row + F_H]);
+                    break;
+
+                case OP_FILL_OVAL:
+                    g.fillOval(data[row + F_X], data[row + F_Y], data[row + F_W], data[row + F_H]);
+                    break;
+
+                case OP_DRAW_RECT:
+                case OP_DRAW_OVAL:
+                    if (param != stroke) {
+                        g.setStroke(Palette.stroke(param));
+                        stroke = param;
+                        changes++;
+                    }
+                    if (op == OP_DRAW_RECT) {
+                        g.drawRect(data[row + F_X], data[row + F_Y], data[row + F_W], data[row + F_H]);
+                    } else {
+                        g.drawOval(data[row + F_X], data[row + F_Y], data[row + F_W], data[row + F_H]);
+                    }
+                    break;
+
+                case OP_TEXT: {
+                    Object f = resources[data[row + F_FONT]];
+                    if (f != font) {
+                        g.setFont((Font)f);
+                        font = f;
+                        changes++;
+                    }
+                    g.drawString((String)resources[data[row + F_REF]], data[row + F_X], data[row + F_Y]);
+                    break;
+                }
+            }
+        }
+
+        g.setColor(originalColor);
+        g.setFont(originalFont);
+        g.setStroke(originalStroke);
+        g.setComposite(originalComposite);
+        lastStateChanges = changes;
+    }
+
+    // ========================================
+    // RECORDINGS
+    // ========================================
+
+    /**
+     * Detached copy (arrays copied, resources shared) that stays valid after
+     * this buffer is reset - e.g. to keep a frame around for benchmarking.
+     */
+    public RenderCommandBuffer copy() {
+        RenderCommandBuffer copy = new RenderCommandBuffer();
+        copy.data = Arrays.copyOf(data, Math.max(STRIDE, count * STRIDE));
+        copy.params = Arrays.copyOf(params, Math.max(1, count));
+        copy.keys = Arrays.copyOf(keys, Math.max(1, count));
+        copy.count = count;
+        copy.pass = pass;
+        copy.sorted = sorted;
+        System.arraycopy(sortablePasses, 0, copy.sortablePasses, 0, MAX_PASSES);
+        copy.resources = Arrays.copyOf(resources, Math.max(1, resourceCount));
+        copy.resourceCount = resourceCount;
+        copy.rebuildIntern();
+        return copy;
+    }
+
+    /**
+     * Serialize the frame for offline replay. Images are stored as PNG.
+     */
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+
+        out.writeInt(resourceCount);
+        for (int i = 0; i < resourceCount; i++) {
+            Object res = resources[i];
+            if (res instanceof BufferedImage) {
+                ByteArrayOutputStream png = new ByteArrayOutputStream();
+                ImageIO.write((BufferedImage)res, "png", png);
+                out.writeByte('I');
+                out.writeInt(png.size());
+                png.writeTo(out);
+            } else if (res instanceof Font) {
+                Font font = (Font)res;
+                out.writeByte('F');
+                out.writeUTF(font.getName());
+                out.writeInt(font.getStyle());
+                out.writeFloat(font.getSize2D());
+            } else if (res instanceof Color) {
+                out.writeByte('C');
+                out.writeInt(((Color)res).getRGB());
+            } else {
+                out.writeByte('S');
+                out.writeUTF(String.valueOf(res));
+            }
+        }
+
+        out.writeInt(pass + 1);
+        for (int p = 0; p <= pass; p++) {
+            out.writeBoolean(sortablePasses[p]);
+        }
+
+        out.writeInt(count);
+        for (int i = 0; i < count * STRIDE; i++) {
+            out.writeInt(data[i]);
+        }
+        for (int i = 0; i < count; i++) {
+            out.writeFloat(params[i]);
+            out.writeLong(keys[i]);
+        }
+        out.writeBoolean(sorted);
+    }
+
+    public static RenderCommandBuffer read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a render command recording");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported recording version " + version);
+        }
+
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+
+        int resourceCount = in.readInt();
+        buffer.resources = new Object[Math.max(1, resourceCount)];
+        for (int i = 0; i < resourceCount; i++) {
+            int type = in.readByte();
+            switch (type) {
+                case 'I': {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    buffer.resources[i] = ImageIO.read(new ByteArrayInputStream(bytes));
+                    break;
+                }
+                case 'F': {
+                    String name = in.readUTF();
+                    int style = in.readInt();
+                    buffer.resources[i] = Palette.font(name, style, Math.round(in.readFloat()));
+                    break;
+                }
+                case 'C': {
+                    int argb = in.readInt();
+                    buffer.resources[i] = Palette.color((argb >> 16) & 0xFF, (argb >> 8) & 0xFF, argb & 0xFF, argb >>> 24);
+                    break;
+                }
+                case 'S':
+                    buffer.resources[i] = in.readUTF();
+                    break;
+                default:
+                    throw new IOException("Bad resource type " + type);
+            }
+        }
+        buffer.resourceCount = resourceCount;
+
+        int passes = in.readInt();
+        for (int p = 0; p < passes; p++) {
+            buffer.sortablePasses[p] = in.readBoolean();
+        }
+        buffer.pass = passes - 1;
+
+        int count = in.readInt();
+        buffer.ensureCapacity(count);
+        for (int i = 0; i < count * STRIDE; i++) {
+            buffer.data[i] = in.readInt();
+        }
+        for (int i = 0; i < count; i++) {
+            buffer.params[i] = in.readFloat();
+            buffer.keys[i] = in.readLong();
+        }
+        buffer.count = count;
+        buffer.sorted = in.readBoolean();
+        buffer.rebuildIntern();
+        return buffer;
+    }
+
+    /**
+     * Same commands as this buffer, all passes treated as ordered -
+     * the "unsorted" baseline for replay benchmarks.
+     */
+    public RenderCommandBuffer copyUnsorted() {
+        RenderCommandBuffer copy = copy();
+        for (int i = 0; i < copy.count; i++) {
+            int index = (int)(copy.keys[i] & (MAX_COMMANDS - 1));
+            long p = copy.keys[i] >>> (STATE_BITS + SEQ_BITS);
+            copy.keys[i] = (p << (STATE_BITS + SEQ_BITS)) | index;
+        }
+        copy.sorted = false;
+        return copy;
+    }
+
+    // ========================================
+    // RESOURCES
+    // ========================================
+
+    private int intern(Object res) {
+        int mask = internKeys.length - 1;
+        int slot = System.identityHashCode(res) & mask;
+        while (internKeys[slot] != null) {
+            if (internKeys[slot] == res) return internIds[slot];
+            slot = (slot + 1) & mask;
+        }
+
+        if (resourceCount == resources.length) {
+            resources = Arrays.copyOf(resources, resources.length * 2);
+        }
+        int id = resourceCount++;
+        resources[id] = res;
+        internKeys[slot] = res;
+        internIds[slot] = id;
+
+        if (resourceCount * 2 > internKeys.length) {
+            internKeys = new Object[internKeys.length * 2];
+            internIds = new int[internKeys.length];
+            rebuildIntern();
+        }
+        return id;
+    }
+
+    private void rebuildIntern() {
+        while (resourceCount * 2 > internKeys.length) {
+            internKeys = new Object[internKeys.length * 2];
+            internIds = new int[internKeys.length];
+        }
+        Arrays.fill(internKeys, null);
+        int mask = internKeys.length - 1;
+        for (int id = 0; id < resourceCount; id++) {
+            int slot = System.identityHashCode(resources[id]) & mask;
+            while (internKeys[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            internKeys[slot] = resources[id];
+            internIds[slot] = id;
+        }
+    }
+
+    private void ensureCapacity(int commands) {
+        if (commands <= params.length) return;
+        int size = Math.max(commands, params.length * 2);
+        data = Arrays.copyOf(data, size * STRIDE);
+        params = Arrays.copyOf(params, size);
+        keys = Arrays.copyOf(keys, size);
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * Graphics2D state changes made by the last replay()
+     */
+    public int getLastStateChanges() {
+        return lastStateChanges;
+    }
+
+    public String getStatsString() {
+        return String.format("Commands: %d in %d passes, %d resources, %d state changes",
+                             count, pass + 1, resourceCount, lastStateChanges);
+    }
+}
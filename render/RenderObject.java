@@ -1,19 +1,80 @@
 package dev.main.render;
 
+import dev.main.bars.HealthBar;
+import dev.main.bars.ManaBar;
+import dev.main.bars.StaminaBar;
 import dev.main.entity.Entity;
+import dev.main.entity.Experience;
+import dev.main.entity.LevelUpEffect;
+import dev.main.entity.MonsterLevel;
+import dev.main.entity.NameTag;
 import dev.main.input.Position;
+import dev.main.quest.QuestIndicator;
+import dev.main.sprite.Sprite;
+import dev.main.stats.Stats;
+import dev.main.util.Alert;
 
 public class RenderObject implements Comparable<RenderObject> {
     public Entity entity;
     public Position position;
     public RenderLayer layer;
     public float depth;  // Y position for depth sorting within layer
+    public float drawX;  // ★ NEW: Interpolated position for this frame
+    public float drawY;
+    
+    int frame;  // ★ NEW: Last frame this entry was visible (Renderer bookkeeping)
+    
+    // ★ NEW: World-UI overlay record - components looked up once per frame
+    // by Renderer.captureOverlays(), then read by every overlay batch.
+    // null = absent, or not drawn this frame (hidden / inactive)
+    public Sprite sprite;
+    public int screenX;
+    public int screenY;
+    public boolean dead;
+    public Alert alert;
+    public QuestIndicator questIndicator;
+    public NameTag nameTag;
+    public MonsterLevel monsterLevel;
+    public Experience experience;
+    public Stats stats;
+    public HealthBar healthBar;
+    public StaminaBar staminaBar;
+    public ManaBar manaBar;
+    public LevelUpEffect levelUp;
     
     public RenderObject(Entity entity, Position position, Renderable renderable) {
         this.entity = entity;
+        rekey(position, renderable);
+    }
+    
+    /**
+     * ★ NEW: Refresh in place for a new frame - entries persist while visible
+     */
+    public void rekey(Position position, Renderable renderable) {
         this.position = position;
         this.layer = renderable.layer;
         this.depth = position.y + renderable.depthOffset;
+        this.drawX = position.x;
+        this.drawY = position.y;
+    }
+    
+    /**
+     * ★ NEW: Drop all references before the entry goes back to the free list
+     */
+    public void release() {
+        entity = null;
+        position = null;
+        sprite = null;
+        alert = null;
+        questIndicator = null;
+        nameTag = null;
+        monsterLevel = null;
+        experience = null;
+        stats = null;
+        healthBar = null;
+        staminaBar = null;
+        manaBar = null;
+        levelUp = null;
     }
     
     @Override
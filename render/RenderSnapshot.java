@@ -0,0 +1,229 @@
+package dev.main.render;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.main.bars.HealthBar;
+import dev.main.bars.ManaBar;
+import dev.main.bars.StaminaBar;
+import dev.main.entity.EntityType;
+import dev.main.entity.MobTier;
+import dev.main.tile.TileMap;
+import dev.main.util.DamageText;
+
+/**
+ * ★ NEW: Frame description published by the simulation thread.
+ *
+ * Holds plain values only (positions, sprite frames, bar percentages, texts),
+ * so the render thread can draw it while GameLogic keeps mutating GameState.
+ * Instances are recycled by SnapshotBuffer: a snapshot is treated as
+ * immutable from publish() until the render thread hands it back.
+ */
+public class RenderSnapshot {
+
+    /**
+     * One drawable entity (ENTITIES layer) plus everything its world UI needs
+     */
+    public static class EntityView {
+        public int entityId;
+        public EntityType type;
+        public float x;
+        public float y;
+        public float prevX;   // position at the previous tick
+        public float prevY;
+        public float drawX;   // interpolated, written by the render thread
+        public float drawY;
+        public int screenX;   // ★ NEW: drawX/Y - camera, rounded once per frame (render thread)
+        public int screenY;
+        public int layerPriority;
+        public float depth;
+        public int sortKey;   // ★ NEW: DepthSort.packKey(layerPriority, depth)
+        public boolean dead;
+
+        // Sprite frame
+        public BufferedImage sheet;
+        public int srcX;
+        public int srcY;
+        public int frameWidth;
+        public int frameHeight;
+
+        // Name tag (null = hidden)
+        public String nameText;
+        public Color nameColor;
+        public float nameOffsetY;
+
+        // Level badge (-1 = none)
+        public int badgeLevel;
+        public MobTier badgeTier;  // null = player badge
+
+        // Bars (null = not drawn)
+        public HealthBar healthBar;
+        public int hp;
+        public int maxHp;
+        public StaminaBar staminaBar;
+        public float stamina;
+        public float maxStamina;
+        public ManaBar manaBar;
+        public int mana;
+        public int maxMana;
+        public float xpProgress;  // < 0 = no XP bar
+
+        // Alert "!" (NaN = hidden)
+        public float alertOffsetY;
+
+        // Level-up effect (alpha 0 = hidden)
+        public float levelUpAlpha;
+        public int levelUpLevel;
+
+        void reset() {
+            sheet = null;
+            nameText = null;
+            nameColor = null;
+            badgeLevel = -1;
+            badgeTier = null;
+            healthBar = null;
+            staminaBar = null;
+            manaBar = null;
+            xpProgress = -1f;
+            alertOffsetY = Float.NaN;
+            levelUpAlpha = 0f;
+            dead = false;
+        }
+    }
+
+    /**
+     * Floating combat text
+     */
+    public static class TextView {
+        public String text;
+        public DamageText.Type type;
+        public Color color;
+        public float x;
+        public float y;
+        public float alpha;
+    }
+
+    /**
+     * Quest marker above an NPC
+     */
+    public static class QuestMarkView {
+        public String symbol;
+        public Color color;
+        public float x;
+        public float y;
+    }
+
+    // Ground decor: portals are x, y, animationTimer; target diamonds are x, y, pulseScale
+    public static class MarkerView {
+        public float x;
+        public float y;
+        public float value;
+    }
+
+    public long tick;
+    public long captureNanos;  // System.nanoTime() when captured
+    public float gameTime;
+    public float cameraX;
+    public float cameraY;
+    public float prevCameraX;
+    public float prevCameraY;
+    public float drawCameraX;  // interpolated, written by the render thread
+    public float drawCameraY;
+    public TileMap map;
+    public float transitionAlpha;
+
+    // Sorted by layer priority, then depth
+    public final List<EntityView> entities = new ArrayList<>();
+    public final List<TextView> texts = new ArrayList<>();
+    public final List<QuestMarkView> questMarks = new ArrayList<>();
+    public final List<MarkerView> portals = new ArrayList<>();
+    public final List<MarkerView> targetMarkers = new ArrayList<>();
+
+    // Recycled view objects (only grow)
+    private final List<EntityView> entityPool = new ArrayList<>();
+    private final List<TextView> textPool = new ArrayList<>();
+    private final List<QuestMarkView> questMarkPool = new ArrayList<>();
+    private final List<MarkerView> markerPool = new ArrayList<>();
+    private int markerPoolIndex;
+
+    /**
+     * Drop the previous contents; called by the builder before capture
+     */
+    public void clear() {
+        entities.clear();
+        texts.clear();
+        questMarks.clear();
+        portals.clear();
+        targetMarkers.clear();
+        markerPoolIndex = 0;
+        map = null;
+        transitionAlpha = 0f;
+    }
+
+    /**
+     * ★ NEW: Render thread: blend previous and current tick positions.
+     * Only touches the draw* fields, so the same snapshot can be drawn
+     * several times with a growing alpha.
+     */
+    public void interpolate(float alpha) {
+        drawCameraX = prevCameraX + (cameraX - prevCameraX) * alpha;
+        drawCameraY = prevCameraY + (cameraY - prevCameraY) * alpha;
+        
+        for (EntityView view : entities) {
+            view.drawX = view.prevX + (view.x - view.prevX) * alpha;
+            view.drawY = view.prevY + (view.y - view.prevY) * alpha;
+        }
+    }
+
+    public EntityView addEntity() {
+        EntityView view;
+        if (entities.size() < entityPool.size()) {
+            view = entityPool.get(entities.size());
+        } else {
+            view = new EntityView();
+            entityPool.add(view);
+        }
+        view.reset();
+        entities.add(view);
+        return view;
+    }
+
+    public TextView addText() {
+        TextView view;
+        if (texts.size() < textPool.size()) {
+            view = textPool.get(texts.size());
+        } else {
+            view = new TextView();
+            textPool.add(view);
+        }
+        texts.add(view);
+        return view;
+    }
+
+    public QuestMarkView addQuestMark() {
+        QuestMarkView view;
+        if (questMarks.size() < questMarkPool.size()) {
+            view = questMarkPool.get(questMarks.size());
+        } else {
+            view = new QuestMarkView();
+            questMarkPool.add(view);
+        }
+        questMarks.add(view);
+        return view;
+    }
+
+    public MarkerView addMarker(List<MarkerView> target) {
+        MarkerView view;
+        if (markerPoolIndex < markerPool.size()) {
+            view = markerPool.get(markerPoolIndex);
+        } else {
+            view = new MarkerView();
+            markerPool.add(view);
+        }
+        markerPoolIndex++;
+        target.add(view);
+        return view;
+    }
+}
@@ -1,14 +1,19 @@
 package dev.main.render;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.image.BufferedImage;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import dev.main.Engine;
 import dev.main.ai.AI;
@@ -32,6 +37,7 @@ import dev.main.input.Position;
 import dev.main.pathfinder.Path;
 import dev.main.quest.QuestIndicator;
 import dev.main.sprite.Sprite;
+import dev.main.sprite.SpriteAtlas;
 import dev.main.state.GameState;
 import dev.main.stats.Stats;
 import dev.main.tile.TileMap;
@@ -62,24 +68,99 @@ public class Renderer {
     private static final Font ALERT_FONT = new Font("Arial", Font.BOLD, 24);
     
     // ⭐ NEW: Reusable sorted list
+    // ★ UPDATED: Entries persist per entity and stay in last frame's order,
+    // so re-sorting is a near-linear insertion pass and nothing is allocated
     private List<RenderObject> sortedRenderObjects;
+    private final Map<Entity, RenderObject> renderEntries = new IdentityHashMap<>();
+    private final ArrayDeque<RenderObject> freeRenderEntries = new ArrayDeque<>();
+    private int renderFrame = 0;
+    
+    // ★ NEW: Optional overlay batches with work this frame (captureOverlays)
+    private static final int OVERLAY_ALERTS = 1;
+    private static final int OVERLAY_QUESTS = 2;
+    private static final int OVERLAY_LEVEL_UPS = 4;
+    private int snapshotOverlays = 0;  // same flags for the snapshot path (buildSnapshotCommands)
+    
+    // ★ NEW: Name tags, badges and damage numbers are rasterized once and blitted
+    private final TextSpriteCache textSprites = new TextSpriteCache();
+    private static final String[] LEVEL_TEXTS = new String[256];
+    
+    private final ViewCuller viewCuller = new ViewCuller();  // ★ NEW: Off-screen entities skipped
+    
+    // XP bar under the sprite (drawXPBar and the snapshot bar pass)
+    private static final int XP_BAR_WIDTH = 40;
+    private static final int XP_BAR_HEIGHT = 3;
+    private static final int XP_BAR_OFFSET_Y = 52;
+    private static final Color XP_BAR_BG = Palette.color(40, 40, 40);
+    private static final Color XP_BAR_FILL = Palette.color(255, 215, 0);
+    
+    // ★ NEW: Snapshot sprites, damage numbers and bars are recorded here, damage
+    // numbers sorted by state within their passes, and replayed. -Drender.record=<file> (or
+    // recordNextFrame) dumps one frame for CommandReplayBenchmark.
+    private final RenderCommandBuffer commands = new RenderCommandBuffer();
+    private static final int RECORD_AFTER_FRAMES = 300;  // let the scene fill up first
+    private volatile String recordPath = System.getProperty("render.record");
+    private int snapshotFrames = 0;
+    
+    // ★ NEW: Map drawn last frame - its VRAM chunks are flushed once it is replaced
+    private TileMap lastDrawnMap;
+    
+    // ★ NEW: Optional parallel ground + decor bands (-Drender.bands=N, 0 = one per core)
+    private volatile BandCompositor bandCompositor;
+    private static final int DECOR_MARGIN = 64;  // portal glow / diamond reach past their centre
+    private final List<RenderSnapshot.MarkerView> livePortals = new ArrayList<>();
+    private final List<RenderSnapshot.MarkerView> liveMarkers = new ArrayList<>();
+    private final List<RenderSnapshot.MarkerView> liveMarkerPool = new ArrayList<>();
     
     public Renderer(GameState gameState, Engine engine) {
         this.gameState = gameState;
         this.engine = engine;
         this.sortedRenderObjects = new ArrayList<>();
+        
+        Integer bands = Integer.getInteger("render.bands");
+        if (bands != null) {
+            this.bandCompositor = new BandCompositor(bands);
+        }
+    }
+    
+    /**
+     * ★ NEW: Toggle parallel band compositing of ground + decor (one band per core)
+     */
+    public void setBandCompositing(boolean enabled) {
+        BandCompositor current = bandCompositor;
+        if (enabled && current == null) {
+            bandCompositor = new BandCompositor(0);
+        } else if (!enabled && current != null) {
+            bandCompositor = null;
+            current.shutdown();
+        }
+    }
+    
+    public boolean isBandCompositing() {
+        return bandCompositor != null;
     }
     
     public void render(Graphics2D g) {
-        float cameraX = gameState.getCameraX();
-        float cameraY = gameState.getCameraY();
+        render(g, 1f);
+    }
+    
+    /**
+     * ★ NEW: alpha is how far we are between the last two ticks (Engine's deltaU).
+     * Camera and moving entities are blended from their previous-tick positions.
+     */
+    public void render(Graphics2D g, float alpha) {
+        float cameraX = gameState.getInterpolatedCameraX(alpha);
+        float cameraY = gameState.getInterpolatedCameraY(alpha);
         
-        // ⭐ NEW: Build sorted list ONCE
-        buildSortedRenderList();
+        // ⭐ NEW: Build sorted list ONCE (visible entities only)
+        buildSortedRenderList(alpha, cameraX, cameraY);
         
         // Render all layers
-        renderGround(g, cameraX, cameraY);
-        renderGroundDecor(g, cameraX, cameraY);
+        // ★ UPDATED: Ground + decor optionally composited in parallel bands
+        if (!renderGroundBands(g, cameraX, cameraY)) {
+            renderGround(g, cameraX, cameraY);
+            renderGroundDecor(g, cameraX, cameraY);
+        }
         renderEntities(g, cameraX, cameraY);
         renderEffects(g, cameraX, cameraY);
         renderWorldUI(g, cameraX, cameraY);
@@ -98,32 +179,370 @@ public class Renderer {
         }
     }
     
-    // ⭐ NEW: Build and sort render list once per frame
-    private void buildSortedRenderList() {
-        sortedRenderObjects.clear();
+    /**
+     * ★ NEW: Draw a published snapshot (render thread).
+     * World layers only read the snapshot; the screen UI and debug overlay
+     * still read live state, so they are drawn while holding uiLock.
+     * alpha blends the snapshot's previous and current tick positions.
+     */
+    public void render(Graphics2D g, RenderSnapshot snapshot, float alpha, Object uiLock) {
+        snapshot.interpolate(alpha);
+        float cameraX = snapshot.drawCameraX;
+        float cameraY = snapshot.drawCameraY;
+        
+        // ★ UPDATED: Ground + decor optionally composited in parallel bands
+        trackDrawnMap(snapshot.map);
+        BandCompositor bands = bandCompositor;
+        if (bands == null || !bands.render(g, snapshot.map, cameraX, cameraY,
+                (band, top, bottom) -> drawGroundDecor(band, snapshot.portals, snapshot.targetMarkers,
+                                                       cameraX, cameraY, top, bottom))) {
+            if (snapshot.map != null) {
+                snapshot.map.render(g, cameraX, cameraY);
+            }
+            drawGroundDecor(g, snapshot.portals, snapshot.targetMarkers, cameraX, cameraY, 0, Engine.HEIGHT);
+        }
         
-        for (Entity entity : gameState.getEntities()) {
+        // ★ UPDATED: Sprites and damage texts replay from the command buffer
+        int barPass = buildSnapshotCommands(snapshot);
+        commands.replay(g, 0, barPass - 1);
+        renderSnapshotWorldUI(g, snapshot, barPass);
+        
+        synchronized (uiLock) {
+            gameState.getUIManager().render(g);
+            
+            if (engine.isDebugMode()) {
+                renderDebug(g, gameState.getCameraX(), gameState.getCameraY());
+            }
+        }
+        
+        // Transition overlay LAST (on top of everything)
+        TransitionEffect.renderOverlay(g, snapshot.transitionAlpha);
+    }
+    
+    // ★ NEW: Same font batches as renderWorldUI(), fed from snapshot views
+    // ★ UPDATED: Bars come from the command buffer (barPass)
+    private void renderSnapshotWorldUI(Graphics2D g, RenderSnapshot snapshot, int barPass) {
+        Font originalFont = g.getFont();
+        float cameraX = snapshot.drawCameraX;
+        float cameraY = snapshot.drawCameraY;
+        
+        // ★ UPDATED: Screen positions and the batch flags come from buildSnapshotCommands;
+        // optional batches with nothing to draw are skipped (no font switch, no loop)
+        int batches = snapshotOverlays;
+        
+        // BATCH 1: ALERTS
+        if ((batches & OVERLAY_ALERTS) != 0) {
+            g.setFont(ALERT_FONT);
+            for (RenderSnapshot.EntityView view : snapshot.entities) {
+                if (view.dead || Float.isNaN(view.alertOffsetY)) continue;
+                drawAlertOnly(g, view.screenX, view.screenY, view.alertOffsetY);
+            }
+        }
+        
+        // BATCH: QUEST INDICATORS
+        if ((batches & OVERLAY_QUESTS) != 0) {
+            g.setFont(QUEST_INDICATOR_FONT);
+            for (RenderSnapshot.QuestMarkView mark : snapshot.questMarks) {
+                drawQuestMarkOnly(g, (int)Math.round(mark.x - cameraX), (int)(mark.y - cameraY), mark.symbol, mark.color);
+            }
+        }
+        
+        // BATCH 2: LEVEL BADGES
+        g.setFont(LEVEL_BADGE_FONT);
+        for (RenderSnapshot.EntityView view : snapshot.entities) {
+            if (view.dead || view.badgeLevel < 0) continue;
+            
+            if (view.badgeTier != null) {
+                drawMonsterLevelBadgeOnly(g, view.screenX, view.screenY, view.badgeLevel, view.badgeTier);
+            } else {
+                drawLevelBadgeOnly(g, view.screenX, view.screenY, view.badgeLevel);
+            }
+        }
+        
+        // BATCH 3: NAME TAGS
+        g.setFont(NAME_FONT);
+        for (RenderSnapshot.EntityView view : snapshot.entities) {
+            if (view.dead || view.nameText == null) continue;
+            drawNameTextOnly(g, view.screenX, view.screenY, view.nameText, view.nameColor, view.nameOffsetY);
+        }
+        
+        // BATCH 4: HEALTH/STAMINA/MANA BARS
+        commands.replay(g, barPass, barPass);
+        
+        // BATCH 5: LEVEL-UP EFFECTS
+        if ((batches & OVERLAY_LEVEL_UPS) != 0) {
+            g.setFont(LEVELUP_FONT);
+            for (RenderSnapshot.EntityView view : snapshot.entities) {
+                if (view.levelUpAlpha <= 0f) continue;
+                drawLevelUpEffectOnly(g, view.screenX, view.screenY, view.levelUpAlpha, view.levelUpLevel);
+            }
+        }
+        
+        g.setFont(originalFont);
+    }
+    
+    /**
+     * ★ NEW: Record the snapshot's sprites (ordered pass), damage texts
+     * (sortable passes) and bars (ordered pass - overlapping bars must stay
+     * in depth order). Returns the bar pass, which is replayed later so bars
+     * keep their place among the world UI batches.
+     */
+    private int buildSnapshotCommands(RenderSnapshot snapshot) {
+        float cameraX = snapshot.drawCameraX;
+        float cameraY = snapshot.drawCameraY;
+        commands.reset();
+        
+        // Sprites: already depth-sorted, so never reordered.
+        // ★ Same pass captures screen positions and which overlay batches have work.
+        int overlays = snapshot.questMarks.isEmpty() ? 0 : OVERLAY_QUESTS;
+        commands.beginPass(false);
+        for (RenderSnapshot.EntityView view : snapshot.entities) {
+            view.screenX = (int)Math.round(view.drawX - cameraX);
+            view.screenY = (int)Math.round(view.drawY - cameraY);
+            if (!view.dead && !Float.isNaN(view.alertOffsetY)) overlays |= OVERLAY_ALERTS;
+            if (view.levelUpAlpha > 0f) overlays |= OVERLAY_LEVEL_UPS;
+            
+            if (view.sheet == null) continue;
+            
+            int destX = view.screenX - view.frameWidth / 2;
+            int destY = view.screenY - view.frameHeight / 2;
+            BufferedImage frame = SpriteAtlas.getFrame(view.sheet, view.srcX, view.srcY, view.frameWidth, view.frameHeight);
+            if (frame != null) {
+                commands.drawImage(frame, destX, destY);
+            } else {
+                commands.drawImageRegion(view.sheet, destX, destY, view.frameWidth, view.frameHeight, view.srcX, view.srcY);
+            }
+        }
+        
+        snapshotOverlays = overlays;
+        
+        // Damage texts: normal, then criticals on top
+        commands.beginPass(true);
+        recordDamageTexts(snapshot, false);
+        commands.beginPass(true);
+        recordDamageTexts(snapshot, true);
+        
+        int barPass = commands.beginPass(false);
+        for (RenderSnapshot.EntityView view : snapshot.entities) {
+            if (view.dead) continue;
+            
+            int screenX = view.screenX;
+            int screenY = view.screenY;
+            
+            if (view.healthBar != null) {
+                float pct = healthPercent(view.hp, view.maxHp);
+                recordBar(screenX, screenY + view.healthBar.offsetY, view.healthBar.width, view.healthBar.height,
+                          pct, HealthBar.BG_COLOR, healthColor(pct, view.type));
+            }
+            if (view.staminaBar != null) {
+                float pct = Math.max(0f, Math.min(1f, view.stamina / view.maxStamina));
+                recordBar(screenX, screenY + view.staminaBar.offsetY, view.staminaBar.width, view.staminaBar.height,
+                          pct, StaminaBar.BG_COLOR, StaminaBar.STAMINA_COLOR);
+            }
+            if (view.manaBar != null) {
+                float pct = Math.max(0f, Math.min(1f, (float) view.mana / view.maxMana));
+                recordBar(screenX, screenY + view.manaBar.offsetY, view.manaBar.width, view.manaBar.height,
+                          pct, ManaBar.BG_COLOR, ManaBar.MANA_COLOR);
+            }
+            if (view.xpProgress >= 0f) {
+                recordBar(screenX, screenY + XP_BAR_OFFSET_Y, XP_BAR_WIDTH, XP_BAR_HEIGHT, view.xpProgress,
+                          XP_BAR_BG, XP_BAR_FILL);
+            }
+        }
+        
+        if (recordPath != null && ++snapshotFrames >= RECORD_AFTER_FRAMES) {
+            writeRecording(recordPath);
+            recordPath = null;
+        }
+        return barPass;
+    }
+    
+    private void recordDamageTexts(RenderSnapshot snapshot, boolean critical) {
+        Font font = critical ? DAMAGE_CRIT_FONT : DAMAGE_FONT;
+        for (RenderSnapshot.TextView text : snapshot.texts) {
+            if (isCriticalText(text.type) != critical) continue;
+            
+            TextSpriteCache.TextSprite sprite = textSprites.get(text.text, font, text.color, 2);
+            int textX = (int)(text.x - snapshot.drawCameraX) - sprite.advance / 2;
+            int textY = (int)(text.y - snapshot.drawCameraY);
+            commands.drawImage(sprite.image, textX - sprite.originX, textY - sprite.originY, text.alpha);
+        }
+    }
+    
+    // Background, fill and 1px black border, centred on spriteX
+    private void recordBar(int spriteX, int barY, int width, int height, float pct, Color background, Color fill) {
+        int barX = spriteX - width / 2;
+        commands.fillRect(background, barX, barY, width, height);
+        commands.fillRect(fill, barX, barY, (int)(width * pct), height);
+        commands.drawRect(Color.BLACK, 1f, barX, barY, width, height);
+    }
+    
+    /**
+     * ★ NEW: Write the next snapshot frame's commands to path (debug; render thread does the IO)
+     */
+    public void recordNextFrame(String path) {
+        snapshotFrames = RECORD_AFTER_FRAMES;
+        recordPath = path;
+    }
+    
+    private void writeRecording(String path) {
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(path))) {
+            commands.write(out);
+            System.out.println("Recorded " + commands.size() + " render commands to " + path);
+        } catch (IOException e) {
+            System.err.println("Failed to record render commands: " + e.getMessage());
+        }
+    }
+    
+    private static boolean isCriticalText(DamageText.Type type) {
+        return type == DamageText.Type.CRITICAL || type == DamageText.Type.PLAYER_CRITICAL_DAMAGE;
+    }
+    
+    // ⭐ NEW: Build and sort render list once per frame
+    // ★ UPDATED: Culled to the camera rect before sorting - cost follows what's on screen
+    // ★ UPDATED: Re-keys persistent entries instead of rebuilding the list
+    private void buildSortedRenderList(float alpha, float cameraX, float cameraY) {
+        int frame = ++renderFrame;
+        int survivors = sortedRenderObjects.size();
+        
+        List<Entity> candidates = viewCuller.collect(gameState.getSpatialHash(),
+                                                     cameraX, cameraY,
+                                                     cameraX + Engine.WIDTH, cameraY + Engine.HEIGHT);
+        for (Entity entity : candidates) {
             Position pos = entity.getComponent(Position.class);
             Renderable renderable = entity.getComponent(Renderable.class);
             Sprite sprite = entity.getComponent(Sprite.class);
             
             if (pos != null && renderable != null && sprite != null) {
                 if (renderable.layer == RenderLayer.ENTITIES) {
-                    sortedRenderObjects.add(new RenderObject(entity, pos, renderable));
+                    float drawX = pos.getInterpolatedX(alpha);
+                    float drawY = pos.getInterpolatedY(alpha);
+                    if (!viewCuller.isVisible(sprite, drawX, drawY)) continue;
+                    
+                    RenderObject ro = renderEntries.get(entity);
+                    if (ro == null) {
+                        ro = freeRenderEntries.poll();
+                        if (ro == null) {
+                            ro = new RenderObject(entity, pos, renderable);
+                        }
+                        ro.entity = entity;
+                        renderEntries.put(entity, ro);
+                        sortedRenderObjects.add(ro);  // newcomers go to the end
+                    }
+                    ro.rekey(pos, renderable);
+                    ro.drawX = drawX;
+                    ro.drawY = drawY;
+                    ro.sprite = sprite;
+                    ro.frame = frame;
                 }
             }
         }
         
-        Collections.sort(sortedRenderObjects);  // ⭐ Sort ONCE
+        // Drop entries that weren't seen this frame, keeping the survivors' order
+        int kept = 0;
+        for (int i = 0, n = sortedRenderObjects.size(); i < n; i++) {
+            RenderObject ro = sortedRenderObjects.get(i);
+            if (ro.frame == frame) {
+                sortedRenderObjects.set(kept++, ro);
+            } else if (i < survivors) {
+                renderEntries.remove(ro.entity);
+                ro.release();
+                freeRenderEntries.add(ro);
+            }
+        }
+        while (sortedRenderObjects.size() > kept) {
+            sortedRenderObjects.remove(sortedRenderObjects.size() - 1);
+        }
+        
+        DepthSort.insertionSort(sortedRenderObjects);  // ⭐ Sort ONCE - nearly sorted since last frame
+    }
+    
+    /**
+     * ★ NEW: Live-state ground + decor through the BandCompositor. Decor is
+     * collected up front so the band tasks only read plain values.
+     * Returns false when bands are off (or failed) - draw sequentially.
+     */
+    private boolean renderGroundBands(Graphics2D g, float cameraX, float cameraY) {
+        BandCompositor bands = bandCompositor;
+        if (bands == null) return false;
+        
+        livePortals.clear();
+        liveMarkers.clear();
+        int used = 0;
+        for (Entity entity : gameState.getEntities()) {
+            if (entity.getType() == EntityType.PORTAL) {
+                Position pos = entity.getComponent(Position.class);
+                Portal portal = entity.getComponent(Portal.class);
+                if (pos != null && portal != null && portal.isActive) {
+                    livePortals.add(liveMarker(used++, pos.x, pos.y, portal.animationTimer));
+                }
+            }
+            
+            TargetIndicator indicator = entity.getComponent(TargetIndicator.class);
+            if (indicator != null && indicator.active) {
+                liveMarkers.add(liveMarker(used++, indicator.worldX, indicator.worldY, indicator.pulseScale));
+            }
+        }
+        
+        TileMap map = gameState.getMap();
+        trackDrawnMap(map);
+        return bands.render(g, map, cameraX, cameraY,
+                (band, top, bottom) -> drawGroundDecor(band, livePortals, liveMarkers, cameraX, cameraY, top, bottom));
+    }
+    
+    private RenderSnapshot.MarkerView liveMarker(int index, float x, float y, float value) {
+        if (index == liveMarkerPool.size()) {
+            liveMarkerPool.add(new RenderSnapshot.MarkerView());
+        }
+        RenderSnapshot.MarkerView marker = liveMarkerPool.get(index);
+        marker.x = x;
+        marker.y = y;
+        marker.value = value;
+        return marker;
+    }
+    
+    /**
+     * ★ NEW: Portals, then target diamonds, skipping any that can't reach
+     * screen rows top..bottom. Read-only - band tasks call it concurrently.
+     */
+    private static void drawGroundDecor(Graphics2D g, List<RenderSnapshot.MarkerView> portals,
+                                        List<RenderSnapshot.MarkerView> markers,
+                                        float cameraX, float cameraY, int top, int bottom) {
+        for (int i = 0, n = portals.size(); i < n; i++) {
+            RenderSnapshot.MarkerView portal = portals.get(i);
+            int screenX = (int)Math.round(portal.x - cameraX);
+            int screenY = (int)Math.round(portal.y - cameraY);
+            if (screenY + DECOR_MARGIN < top || screenY - DECOR_MARGIN > bottom) continue;
+            PortalRenderer.renderPortal(g, screenX, screenY, portal.value);
+        }
+        
+        for (int i = 0, n = markers.size(); i < n; i++) {
+            RenderSnapshot.MarkerView marker = markers.get(i);
+            int screenX = (int)Math.round(marker.x - cameraX);
+            int screenY = (int)Math.round(marker.y - cameraY);
+            if (screenY + DECOR_MARGIN < top || screenY - DECOR_MARGIN > bottom) continue;
+            DiamondRenderer.renderDiamond(g, screenX, screenY, marker.value, 1.0f);
+        }
     }
     
     private void renderGround(Graphics2D g, float cameraX, float cameraY) {
         TileMap map = gameState.getMap();
+        trackDrawnMap(map);
         if (map != null) {
             map.render(g, cameraX, cameraY);
         }
     }
     
+    // Called on the render thread, which is the only user of the chunk caches
+    private void trackDrawnMap(TileMap map) {
+        if (map != lastDrawnMap) {
+            if (lastDrawnMap != null) {
+                lastDrawnMap.flushChunks();
+            }
+            lastDrawnMap = map;
+        }
+    }
+    
     private void renderGroundDecor(Graphics2D g, float cameraX, float cameraY) {
         
     	// ★ Render portals first (under entities)
@@ -154,16 +573,10 @@ public class Renderer {
     // ⭐ OPTIMIZED: Use pre-sorted list
     private void renderEntities(Graphics2D g, float cameraX, float cameraY) {
         for (RenderObject ro : sortedRenderObjects) {
-            Entity entity = ro.entity;
-            Position pos = ro.position;
+            int spriteScreenX = (int)Math.round(ro.drawX - cameraX);
+            int spriteScreenY = (int)Math.round(ro.drawY - cameraY);
             
-            int spriteScreenX = (int)Math.round(pos.x - cameraX);
-            int spriteScreenY = (int)Math.round(pos.y - cameraY);
-            
-            Sprite sprite = entity.getComponent(Sprite.class);
-            if (sprite != null) {
-                sprite.renderAtPixel(g, spriteScreenX, spriteScreenY);
-            }
+            ro.sprite.renderAtPixel(g, spriteScreenX, spriteScreenY);  // ★ Cached when the list was built
         }
     }
     
@@ -171,114 +584,98 @@ public class Renderer {
         drawDamageTexts(g, cameraX, cameraY);
     }
      
+    /**
+     * ★ NEW: One pass over the visible entities fills each entry's overlay
+     * record, so the batches below never call getComponent again.
+     * @return bit flags of which optional batches have work this frame
+     */
+    private int captureOverlays(float cameraX, float cameraY) {
+        int batches = 0;
+        
+        for (RenderObject ro : sortedRenderObjects) {
+            Entity entity = ro.entity;
+            EntityType type = entity.getType();
+            
+            ro.screenX = (int)Math.round(ro.drawX - cameraX);
+            ro.screenY = (int)Math.round(ro.drawY - cameraY);
+            ro.dead = entity.hasComponent(Dead.class);
+            
+            Alert alert = entity.getComponent(Alert.class);
+            ro.alert = (alert != null && alert.active) ? alert : null;
+            
+            NameTag nameTag = entity.getComponent(NameTag.class);
+            ro.nameTag = (nameTag != null && nameTag.visible) ? nameTag : null;
+            
+            QuestIndicator qi = type == EntityType.NPC ? entity.getComponent(QuestIndicator.class) : null;
+            ro.questIndicator = (qi != null && qi.active) ? qi : null;
+            
+            ro.monsterLevel = type == EntityType.MONSTER ? entity.getComponent(MonsterLevel.class) : null;
+            ro.stats = entity.getComponent(Stats.class);
+            ro.healthBar = entity.getComponent(HealthBar.class);
+            
+            if (type == EntityType.PLAYER) {
+                ro.experience = entity.getComponent(Experience.class);
+                ro.staminaBar = entity.getComponent(StaminaBar.class);
+                ro.manaBar = entity.getComponent(ManaBar.class);
+                LevelUpEffect levelUp = entity.getComponent(LevelUpEffect.class);
+                ro.levelUp = (levelUp != null && levelUp.active) ? levelUp : null;
+            } else {
+                ro.experience = null;
+                ro.staminaBar = null;
+                ro.manaBar = null;
+                ro.levelUp = null;
+            }
+            
+            if (ro.alert != null && !ro.dead) batches |= OVERLAY_ALERTS;
+            if (ro.questIndicator != null && !ro.dead) batches |= OVERLAY_QUESTS;
+            if (ro.levelUp != null) batches |= OVERLAY_LEVEL_UPS;
+        }
+        return batches;
+    }
+    
  // ★★★ OPTIMIZED: BATCHED RENDERING BY FONT TYPE ★★★
+    // ★ UPDATED: Batches read the overlay records from captureOverlays()
     private void renderWorldUI(Graphics2D g, float cameraX, float cameraY) {
         Font originalFont = g.getFont();
+        int batches = captureOverlays(cameraX, cameraY);
         
      // ========================================
-        // BATCH 1: ALERTS (existing code - keep as is)
+        // BATCH 1: ALERTS
         // ========================================
-        boolean hasAlerts = false;
-        for (RenderObject ro : sortedRenderObjects) {
-            Alert alert = ro.entity.getComponent(Alert.class);
-            if (alert != null && alert.active) {
-                hasAlerts = true;
-                break;
-            }
-        }
-        
-        if (hasAlerts) {
+        if ((batches & OVERLAY_ALERTS) != 0) {
             g.setFont(ALERT_FONT);
             for (RenderObject ro : sortedRenderObjects) {
-                Dead dead = ro.entity.getComponent(Dead.class);
-                if (dead != null) continue;
-                
-                Alert alert = ro.entity.getComponent(Alert.class);
-                if (alert != null && alert.active) {
-                    int screenX = (int)Math.round(ro.position.x - cameraX);
-                    int screenY = (int)Math.round(ro.position.y - cameraY);
-                    drawAlertOnly(g, screenX, screenY, alert);
-                }
+                if (ro.dead || ro.alert == null) continue;
+                drawAlertOnly(g, ro.screenX, ro.screenY, ro.alert.offsetY + ro.alert.bounceOffset);
             }
         }
         
      // BATCH: QUEST INDICATORS (Clean version)
-        g.setFont(QUEST_INDICATOR_FONT);
-
-        for (Entity entity : gameState.getEntities()) {
-            if (entity.getType() != EntityType.NPC) continue;
-            
-            Dead dead = entity.getComponent(Dead.class);
-            if (dead != null) continue;
-            
-            Position pos = entity.getComponent(Position.class);
-            if (pos == null) continue;
-            
-            QuestIndicator qi = entity.getComponent(QuestIndicator.class);
-            if (qi == null || !qi.active) continue;
-            
-            int screenX = (int)Math.round(pos.x - cameraX);
-            int screenY = (int)Math.round(pos.y - cameraY);
-            
-            // Get symbol and color
-            String symbol;
-            Color color;
-            
-            if (qi.type == QuestIndicator.IndicatorType.IN_PROGRESS) {
-                symbol = qi.getSymbol();//"...";
-                color = qi.getColor();//new Color(150, 150, 150);
-            } else if (qi.type == QuestIndicator.IndicatorType.COMPLETE) {
-                symbol = qi.getSymbol();//"?";
-                color = qi.getColor();//new Color(255, 215, 0);
-            } else {
-                symbol = qi.getSymbol();//"!";
-                color = qi.getColor();//new Color(255, 215, 0);
+        if ((batches & OVERLAY_QUESTS) != 0) {
+            g.setFont(QUEST_INDICATOR_FONT);
+            for (RenderObject ro : sortedRenderObjects) {
+                if (ro.dead || ro.questIndicator == null) continue;
+                
+                QuestIndicator qi = ro.questIndicator;
+                int indicatorY = (int)(ro.screenY + qi.offsetY + qi.bounceOffset);
+                drawQuestMarkOnly(g, ro.screenX, indicatorY, qi.getSymbol(), qi.getColor());
             }
-            
-            // Draw indicator
-            int indicatorX = screenX;
-            int indicatorY = (int)(screenY + qi.offsetY + qi.bounceOffset);
-            
-            FontMetrics fm = g.getFontMetrics();
-            int textWidth = fm.stringWidth(symbol);
-            int textHeight = fm.getHeight();
-            
-            int textX = indicatorX - textWidth / 2;
-            int textY = indicatorY + textHeight / 4;
-            
-            // Shadow
-            g.setColor(new Color(0, 0, 0, 150));
-            g.drawString(symbol, textX + 2, textY + 2);
-            
-            // Symbol
-            g.setColor(color);
-            g.drawString(symbol, textX, textY);
         }
         // ========================================
-        // BATCH 2: LEVEL BADGES (existing code - keep as is)
+        // BATCH 2: LEVEL BADGES
         // ========================================
         g.setFont(LEVEL_BADGE_FONT);
         
         for (RenderObject ro : sortedRenderObjects) {
-            Dead dead = ro.entity.getComponent(Dead.class);
-            if (dead != null) continue;
-            
-            int screenX = (int)Math.round(ro.position.x - cameraX);
-            int screenY = (int)Math.round(ro.position.y - cameraY);
+            if (ro.dead) continue;
             
-            if (ro.entity.getType() == EntityType.MONSTER) {
-                MonsterLevel monsterLevel = ro.entity.getComponent(MonsterLevel.class);
-                NameTag nameTag = ro.entity.getComponent(NameTag.class);
-                
-                if (monsterLevel != null && nameTag != null && nameTag.visible) {
-                    drawMonsterLevelBadgeOnly(g, screenX, screenY, monsterLevel);
+            if (ro.monsterLevel != null) {
+                if (ro.nameTag != null) {
+                    drawMonsterLevelBadgeOnly(g, ro.screenX, ro.screenY, ro.monsterLevel.level, ro.monsterLevel.tier);
                 }
             }
-            else if (ro.entity.getType() == EntityType.PLAYER) {
-                Experience exp = ro.entity.getComponent(Experience.class);
-                if (exp != null) {
-                    drawLevelBadgeOnly(g, screenX, screenY, exp.level);
-                }
+            else if (ro.experience != null) {
+                drawLevelBadgeOnly(g, ro.screenX, ro.screenY, ro.experience.level);
             }
         }
         
@@ -288,77 +685,45 @@ public class Renderer {
         g.setFont(NAME_FONT);
         
         for (RenderObject ro : sortedRenderObjects) {
-            Dead dead = ro.entity.getComponent(Dead.class);
-            if (dead != null) continue;
-            
-            NameTag nameTag = ro.entity.getComponent(NameTag.class);
-            if (nameTag != null && nameTag.visible) {
-                int screenX = (int)Math.round(ro.position.x - cameraX);
-                int screenY = (int)Math.round(ro.position.y - cameraY);
-                drawNameTagOnly(g, screenX, screenY, nameTag, ro.entity);
-            }
+            if (ro.dead || ro.nameTag == null) continue;
+            drawNameTagOnly(g, ro.screenX, ro.screenY, ro.nameTag, ro.monsterLevel);
         }
         
         // ========================================
         // BATCH 4: HEALTH/STAMINA/MANA BARS (NO FONT NEEDED)
         // ========================================
         for (RenderObject ro : sortedRenderObjects) {
-            Dead dead = ro.entity.getComponent(Dead.class);
-            if (dead != null) continue;
-            
-            int screenX = (int)Math.round(ro.position.x - cameraX);
-            int screenY = (int)Math.round(ro.position.y - cameraY);
+            if (ro.dead) continue;
             
-            Stats stats = ro.entity.getComponent(Stats.class);
+            int screenX = ro.screenX;
+            int screenY = ro.screenY;
+            Stats stats = ro.stats;
             
             // Health bar
-            HealthBar hpBar = ro.entity.getComponent(HealthBar.class);
-            if (stats != null && hpBar != null) {
-                drawHealthBar(g, screenX, screenY, stats, hpBar, ro);
+            if (stats != null && ro.healthBar != null) {
+                drawHealthBar(g, screenX, screenY, stats.hp, stats.maxHp, ro.healthBar, ro.entity.getType());
             }
             
-            // Player-specific bars
-            if (ro.entity.getType() == EntityType.PLAYER) {
-                StaminaBar staminaBar = ro.entity.getComponent(StaminaBar.class);
-                if (stats != null && staminaBar != null) {
-                    drawStaminaBar(g, screenX, screenY, stats, staminaBar);
-                }
-                
-                ManaBar manaBar = ro.entity.getComponent(ManaBar.class);
-                if (stats != null && manaBar != null) {
-                    drawManaBar(g, screenX, screenY, stats, manaBar);
-                }
-                
-                Experience exp = ro.entity.getComponent(Experience.class);
-                if (exp != null) {
-                    drawXPBar(g, screenX, screenY, exp);
-                }
+            // Player-specific bars (only captured for players)
+            if (stats != null && ro.staminaBar != null) {
+                drawStaminaBar(g, screenX, screenY, stats.stamina, stats.maxStamina, ro.staminaBar);
+            }
+            if (stats != null && ro.manaBar != null) {
+                drawManaBar(g, screenX, screenY, stats.mana, stats.maxMana, ro.manaBar);
+            }
+            if (ro.experience != null) {
+                drawXPBar(g, screenX, screenY, ro.experience.getXPProgress());
             }
         }
         
         // ========================================
         // BATCH 5: LEVEL-UP EFFECTS
         // ========================================
-        boolean hasLevelUps = false;
-        for (RenderObject ro : sortedRenderObjects) {
-            LevelUpEffect levelUpEffect = ro.entity.getComponent(LevelUpEffect.class);
-            if (levelUpEffect != null && levelUpEffect.active) {
-                hasLevelUps = true;
-                break;
-            }
-        }
-        
-        if (hasLevelUps) {
+        if ((batches & OVERLAY_LEVEL_UPS) != 0) {
             g.setFont(LEVELUP_FONT);
             for (RenderObject ro : sortedRenderObjects) {
-                if (ro.entity.getType() == EntityType.PLAYER) {
-                    LevelUpEffect levelUpEffect = ro.entity.getComponent(LevelUpEffect.class);
-                    if (levelUpEffect != null && levelUpEffect.active) {
-                        int screenX = (int)Math.round(ro.position.x - cameraX);
-                        int screenY = (int)Math.round(ro.position.y - cameraY);
-                        drawLevelUpEffectOnly(g, screenX, screenY, levelUpEffect);
-                    }
-                }
+                if (ro.levelUp == null) continue;
+                drawLevelUpEffectOnly(g, ro.screenX, ro.screenY, ro.levelUp.getAlpha(), ro.levelUp.newLevel);
             }
         }
         
@@ -407,113 +772,114 @@ public class Renderer {
     // INDIVIDUAL DRAWING METHODS (NO FONT SETTING)
     // ========================================
     
-    private void drawMonsterLevelBadgeOnly(Graphics2D g, int spriteX, int spriteY, MonsterLevel monsterLevel) {
+    private void drawMonsterLevelBadgeOnly(Graphics2D g, int spriteX, int spriteY, int level, MobTier tier) {
         // Font already set to LEVEL_BADGE_FONT
-        String levelText = "Lv" + monsterLevel.level;
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(levelText);
+        TextSpriteCache.TextSprite label = textSprites.get(levelText(level), g.getFont(), Color.WHITE, 0);
         
         int badgeX = spriteX + 20;
         int badgeY = spriteY - 30;
         
-        Color tierColor = getTierColor(monsterLevel.tier);
+        Color tierColor = getTierColor(tier);
         
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(Palette.color(0, 0, 0, 180));
         g.fillOval(badgeX - 10, badgeY - 6, 20, 12);
         
         g.setColor(tierColor);
-        g.setStroke(new BasicStroke(1.5f));
+        g.setStroke(Palette.stroke(1.5f));
         g.drawOval(badgeX - 10, badgeY - 6, 20, 12);
         
-        g.setColor(Color.WHITE);
-        g.drawString(levelText, badgeX - textWidth/2, badgeY + 3);
+        TextSpriteCache.draw(g, label, badgeX - label.advance/2, badgeY + 3, 1f);
     }
     
-    private void drawNameTagOnly(Graphics2D g, int spriteX, int spriteY, NameTag tag, Entity entity) {
+    // ★ UPDATED: monsterLevel comes from the overlay record (null = not a monster)
+    private void drawNameTagOnly(Graphics2D g, int spriteX, int spriteY, NameTag tag, MonsterLevel monsterLevel) {
         // Font already set to NAME_FONT
         String displayName = tag.displayName;
         Color nameColor = Color.WHITE;
         
-        if (entity.getType() == EntityType.MONSTER) {
-            MonsterLevel monsterLevel = entity.getComponent(MonsterLevel.class);
-            if (monsterLevel != null) {
-                String tierPrefix = getTierPrefix(monsterLevel.tier);
-                if (tierPrefix != null) {
-                    displayName = tierPrefix + displayName;
-                }
-                nameColor = getTierColor(monsterLevel.tier);
+        if (monsterLevel != null) {
+            String tierPrefix = getTierPrefix(monsterLevel.tier);
+            if (tierPrefix != null) {
+                displayName = tierPrefix + displayName;
             }
+            nameColor = getTierColor(monsterLevel.tier);
         }
         
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(displayName);
-        
-        int textX = spriteX - textWidth / 2;
-        int textY = (int)(spriteY + tag.offsetY);
+        drawNameTextOnly(g, spriteX, spriteY, displayName, nameColor, tag.offsetY);
+    }
+    
+    // ★ UPDATED: Cached text sprite (1px black shadow) instead of two drawString calls
+    private void drawNameTextOnly(Graphics2D g, int spriteX, int spriteY, String displayName, Color nameColor, float offsetY) {
+        // Font already set to NAME_FONT
+        TextSpriteCache.TextSprite label = textSprites.get(displayName, g.getFont(), nameColor, 1);
         
-        g.setColor(Color.BLACK);
-        g.drawString(displayName, textX + 1, textY + 1);
+        int textX = spriteX - label.advance / 2;
+        int textY = (int)(spriteY + offsetY);
         
-        g.setColor(nameColor);
-        g.drawString(displayName, textX, textY);
+        TextSpriteCache.draw(g, label, textX, textY, 1f);
     }
     
     private void drawLevelBadgeOnly(Graphics2D g, int spriteX, int spriteY, int level) {
         // Font already set to LEVEL_BADGE_FONT
-        String levelText = "Lv" + level;
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(levelText);
+        TextSpriteCache.TextSprite label = textSprites.get(levelText(level), g.getFont(), Color.WHITE, 0);
         
         int badgeX = spriteX - 25;
         int badgeY = spriteY - 35;
         
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(Palette.color(0, 0, 0, 180));
         g.fillOval(badgeX - 12, badgeY - 8, 24, 16);
         
-        g.setColor(new Color(255, 215, 0));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(Palette.color(255, 215, 0));
+        g.setStroke(Palette.stroke(2));
         g.drawOval(badgeX - 12, badgeY - 8, 24, 16);
         
-        g.setColor(Color.WHITE);
-        g.drawString(levelText, badgeX - textWidth/2, badgeY + 4);
+        TextSpriteCache.draw(g, label, badgeX - label.advance/2, badgeY + 4, 1f);
     }
     
-    private void drawLevelUpEffectOnly(Graphics2D g, int spriteX, int spriteY, LevelUpEffect effect) {
+    // ★ NEW: "Lv12" strings are built once per level
+    private static String levelText(int level) {
+        if (level < 0 || level >= LEVEL_TEXTS.length) return "Lv" + level;
+        String text = LEVEL_TEXTS[level];
+        if (text == null) {
+            text = "Lv" + level;
+            LEVEL_TEXTS[level] = text;
+        }
+        return text;
+    }
+    
+    private void drawLevelUpEffectOnly(Graphics2D g, int spriteX, int spriteY, float alpha, int newLevel) {
         // Font already set to LEVELUP_FONT
-        if (!effect.active) return;
+        if (alpha <= 0f) return;
         
-        float alpha = effect.getAlpha();
         int alphaVal = (int)(alpha * 200);
         
         int radius = (int)(30 + (1 - alpha) * 20);
-        g.setColor(new Color(255, 255, 0, alphaVal / 2));
+        g.setColor(Palette.color(255, 255, 0, alphaVal / 2));
         g.fillOval(spriteX - radius, spriteY - radius, radius * 2, radius * 2);
         
-        g.setColor(new Color(255, 215, 0, alphaVal));
-        g.setStroke(new BasicStroke(3));
+        g.setColor(Palette.color(255, 215, 0, alphaVal));
+        g.setStroke(Palette.stroke(3));
         g.drawOval(spriteX - radius, spriteY - radius, radius * 2, radius * 2);
         
-        String text = "LEVEL " + effect.newLevel;
+        String text = "LEVEL " + newLevel;
         FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(text);
         
         int textY = spriteY - 50 - (int)((1 - alpha) * 20);
         
-        g.setColor(new Color(0, 0, 0, alphaVal));
+        g.setColor(Palette.color(0, 0, 0, alphaVal));
         g.drawString(text, spriteX - textWidth/2 + 2, textY + 2);
         
-        g.setColor(new Color(255, 215, 0, alphaVal));
+        g.setColor(Palette.color(255, 215, 0, alphaVal));
         g.drawString(text, spriteX - textWidth/2, textY);
     }
     
-    private void drawAlertOnly(Graphics2D g, int spriteX, int spriteY, Alert alert) {
+    private void drawAlertOnly(Graphics2D g, int spriteX, int spriteY, float offsetY) {
         // Font already set to ALERT_FONT
-        if (!alert.active) return;
-        
         Stroke originalStroke = g.getStroke();
         
         int alertX = spriteX;
-        int alertY = (int)(spriteY + alert.offsetY + alert.bounceOffset);
+        int alertY = (int)(spriteY + offsetY);
         
         String exclamation = "!";
         FontMetrics fm = g.getFontMetrics();
@@ -523,16 +889,34 @@ public class Renderer {
         int textX = alertX - textWidth / 2;
         int textY = alertY + textHeight / 4;
         
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(Palette.color(0, 0, 0, 150));
         g.drawString(exclamation, textX + 1, textY + 1);
         
-        g.setColor(new Color(255, 0, 0, 255));
+        g.setColor(Palette.color(255, 0, 0, 255));
         g.drawString(exclamation, textX, textY);
         
         g.setStroke(originalStroke);
     }
+    
+    private void drawQuestMarkOnly(Graphics2D g, int indicatorX, int indicatorY, String symbol, Color color) {
+        // Font already set to QUEST_INDICATOR_FONT
+        FontMetrics fm = g.getFontMetrics();
+        int textWidth = fm.stringWidth(symbol);
+        int textHeight = fm.getHeight();
+        
+        int textX = indicatorX - textWidth / 2;
+        int textY = indicatorY + textHeight / 4;
+        
+        // Shadow
+        g.setColor(Palette.color(0, 0, 0, 150));
+        g.drawString(symbol, textX + 2, textY + 2);
+        
+        // Symbol
+        g.setColor(color);
+        g.drawString(symbol, textX, textY);
+    }
      
-    private String getTierPrefix(MobTier tier) {
+    static String getTierPrefix(MobTier tier) {
         switch (tier) {
             case ELITE: return "[Elite]";
             case MINIBOSS: return "[Boss]";
@@ -540,32 +924,52 @@ public class Renderer {
         }
     }
     
-    private Color getTierColor(MobTier tier) {
+    static Color getTierColor(MobTier tier) {
         switch (tier) {
-            case TRASH: return new Color(150, 150, 150);
+            case TRASH: return Palette.color(150, 150, 150);
             case NORMAL: return Color.WHITE;
-            case ELITE: return new Color(100, 150, 255);
-            case MINIBOSS: return new Color(200, 100, 200);
+            case ELITE: return Palette.color(100, 150, 255);
+            case MINIBOSS: return Palette.color(200, 100, 200);
             default: return Color.WHITE;
         }
     }
     
-    private void drawHealthBar(Graphics2D g, int spriteX, int spriteY, Stats hp, HealthBar bar, RenderObject ro) {
+    private void drawHealthBar(Graphics2D g, int spriteX, int spriteY, int hp, int maxHp, HealthBar bar, EntityType et) {
         Stroke originalStroke = g.getStroke();
         
         int barX = spriteX - bar.width / 2;
         int barY = spriteY + bar.offsetY;
         
-        float pct = (float) hp.hp / hp.maxHp;
+        float pct = healthPercent(hp, maxHp);
+        
+        int filledWidth = (int)(bar.width * pct);
+        
+        Color hpColor = healthColor(pct, et);
+        
+        g.setColor(HealthBar.BG_COLOR);
+        g.fillRect(barX, barY, bar.width, bar.height);
+        
+        g.setColor(hpColor);
+        g.fillRect(barX, barY, filledWidth, bar.height);
+        
+        g.setColor(Color.BLACK);
+        g.setStroke(Palette.stroke(1f));
+        g.drawRect(barX, barY, bar.width, bar.height);
+        
+        g.setStroke(originalStroke);
+    }
+    
+    private static float healthPercent(int hp, int maxHp) {
+        float pct = (float) hp / maxHp;
         pct = Math.max(0f, Math.min(1f, pct));
         
-        if (hp.hp > 0 && pct < 0.10f) {
+        if (hp > 0 && pct < 0.10f) {
             pct = 0.10f;
         }
-        
-        int filledWidth = (int)(bar.width * pct);
-        
-        EntityType et = ro.entity.getType();
+        return pct;
+    }
+    
+    private static Color healthColor(float pct, EntityType et) {
         Color hpColor = Color.GREEN; //default
         if(et != null)  {//is this needed?
             if(et == EntityType.PLAYER) {
@@ -577,27 +981,16 @@ public class Renderer {
 
             } 
         } 
-        
-        g.setColor(HealthBar.BG_COLOR);
-        g.fillRect(barX, barY, bar.width, bar.height);
-        
-        g.setColor(hpColor);
-        g.fillRect(barX, barY, filledWidth, bar.height);
-        
-        g.setColor(Color.BLACK);
-        g.setStroke(new BasicStroke(1f));
-        g.drawRect(barX, barY, bar.width, bar.height);
-        
-        g.setStroke(originalStroke);
+        return hpColor;
     }
     
-    private void drawStaminaBar(Graphics2D g, int spriteX, int spriteY, Stats stats, StaminaBar bar) {
+    private void drawStaminaBar(Graphics2D g, int spriteX, int spriteY, float stamina, float maxStamina, StaminaBar bar) {
         Stroke originalStroke = g.getStroke();
         
         int barX = spriteX - bar.width / 2;
         int barY = spriteY + bar.offsetY;
         
-        float pct = stats.stamina / stats.maxStamina;
+        float pct = stamina / maxStamina;
         pct = Math.max(0f, Math.min(1f, pct));
         
         int filledWidth = (int)(bar.width * pct);
@@ -609,19 +1002,19 @@ public class Renderer {
         g.fillRect(barX, barY, filledWidth, bar.height);
         
         g.setColor(Color.BLACK);
-        g.setStroke(new BasicStroke(1f));
+        g.setStroke(Palette.stroke(1f));
         g.drawRect(barX, barY, bar.width, bar.height);
         
         g.setStroke(originalStroke);
     }
     
-    private void drawManaBar(Graphics2D g, int spriteX, int spriteY, Stats stats, ManaBar bar) {
+    private void drawManaBar(Graphics2D g, int spriteX, int spriteY, int mana, int maxMana, ManaBar bar) {
         Stroke originalStroke = g.getStroke();
         
         int barX = spriteX - bar.width / 2;
         int barY = spriteY + bar.offsetY;
         
-        float pct = (float) stats.mana / stats.maxMana;
+        float pct = (float) mana / maxMana;
         pct = Math.max(0f, Math.min(1f, pct));
         
         int filledWidth = (int)(bar.width * pct);
@@ -633,34 +1026,29 @@ public class Renderer {
         g.fillRect(barX, barY, filledWidth, bar.height);
         
         g.setColor(Color.BLACK);
-        g.setStroke(new BasicStroke(1f));
+        g.setStroke(Palette.stroke(1f));
         g.drawRect(barX, barY, bar.width, bar.height);
         
         g.setStroke(originalStroke);
     }
     
-    private void drawXPBar(Graphics2D g, int spriteX, int spriteY, Experience exp) {
+    private void drawXPBar(Graphics2D g, int spriteX, int spriteY, float pct) {
         Stroke originalStroke = g.getStroke();
         
-        int barWidth = 40;
-        int barHeight = 3;
-        int offsetY = 52;
-        
-        int barX = spriteX - barWidth / 2;
-        int barY = spriteY + offsetY;
+        int barX = spriteX - XP_BAR_WIDTH / 2;
+        int barY = spriteY + XP_BAR_OFFSET_Y;
         
-        float pct = exp.getXPProgress();
-        int filledWidth = (int)(barWidth * pct);
+        int filledWidth = (int)(XP_BAR_WIDTH * pct);
         
-        g.setColor(new Color(40, 40, 40));
-        g.fillRect(barX, barY, barWidth, barHeight);
+        g.setColor(XP_BAR_BG);
+        g.fillRect(barX, barY, XP_BAR_WIDTH, XP_BAR_HEIGHT);
         
-        g.setColor(new Color(255, 215, 0));
-        g.fillRect(barX, barY, filledWidth, barHeight);
+        g.setColor(XP_BAR_FILL);
+        g.fillRect(barX, barY, filledWidth, XP_BAR_HEIGHT);
         
         g.setColor(Color.BLACK);
-        g.setStroke(new BasicStroke(1f));
-        g.drawRect(barX, barY, barWidth, barHeight);
+        g.setStroke(Palette.stroke(1f));
+        g.drawRect(barX, barY, XP_BAR_WIDTH, XP_BAR_HEIGHT);
         
         g.setStroke(originalStroke);
     }
@@ -674,7 +1062,7 @@ public class Renderer {
         for (DamageText dt : gameState.getDamageTexts()) {
             if (dt.type != DamageText.Type.CRITICAL && 
                 dt.type != DamageText.Type.PLAYER_CRITICAL_DAMAGE) {
-                drawSingleDamageText(g, dt, cameraX, cameraY);
+                drawSingleDamageText(g, dt.text, dt.color, dt.worldX, dt.worldY, dt.getAlpha(), cameraX, cameraY);
             }
         }
         
@@ -683,36 +1071,25 @@ public class Renderer {
         for (DamageText dt : gameState.getDamageTexts()) {
             if (dt.type == DamageText.Type.CRITICAL || 
                 dt.type == DamageText.Type.PLAYER_CRITICAL_DAMAGE) {
-                drawSingleDamageText(g, dt, cameraX, cameraY);
+                drawSingleDamageText(g, dt.text, dt.color, dt.worldX, dt.worldY, dt.getAlpha(), cameraX, cameraY);
             }
         }
         
         g.setFont(originalFont);
     }
     
-    private void drawSingleDamageText(Graphics2D g, DamageText dt, float cameraX, float cameraY) {
-        int screenX = (int)(dt.worldX - cameraX);
-        int screenY = (int)(dt.worldY - cameraY);
+    private void drawSingleDamageText(Graphics2D g, String text, Color color, float worldX, float worldY,
+                                      float fade, float cameraX, float cameraY) {
+        int screenX = (int)(worldX - cameraX);
+        int screenY = (int)(worldY - cameraY);
         
-        FontMetrics fm = g.getFontMetrics();
-        int textWidth = fm.stringWidth(dt.text);
+        // ★ UPDATED: Cached sprite (2px shadow), faded with AlphaComposite
+        TextSpriteCache.TextSprite sprite = textSprites.get(text, g.getFont(), color, 2);
         
-        int textX = screenX - textWidth / 2;
+        int textX = screenX - sprite.advance / 2;
         int textY = screenY;
         
-        int alpha = (int)(dt.getAlpha() * 255);
-        
-        g.setColor(new Color(0, 0, 0, alpha));
-        g.drawString(dt.text, textX + 2, textY + 2);
-        
-        Color textColor = new Color(
-            dt.color.getRed(),
-            dt.color.getGreen(),
-            dt.color.getBlue(),
-            alpha
-        );
-        g.setColor(textColor);
-        g.drawString(dt.text, textX, textY);
+        TextSpriteCache.draw(g, sprite, textX, textY, fade);
     }
      
     private void drawCollisionBox(Graphics2D g, Position pos, CollisionBox box, float cameraX, float cameraY) {
@@ -721,8 +1098,8 @@ public class Renderer {
         int boxW = (int)box.width;
         int boxH = (int)box.height;
         
-        g.setColor(new Color(255, 0, 0, 150));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(Palette.color(255, 0, 0, 150));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(boxX, boxY, boxW, boxH);
         
         int centerX = (int)Math.round(pos.x - cameraX);
@@ -749,8 +1126,8 @@ public class Renderer {
         if (startCol > endCol || startRow > endRow) return;
         
         // Draw grid lines
-        g.setColor(new Color(255, 255, 255, 100));
-        g.setStroke(new BasicStroke(1));
+        g.setColor(Palette.color(255, 255, 255, 100));
+        g.setStroke(Palette.stroke(1));
         
         // Vertical lines (from startCol to endCol+1, clamped to mapWidth)
         int maxVerticalLine = Math.min(endCol + 1, mapWidth);
@@ -771,7 +1148,7 @@ public class Renderer {
         }
         
         // Draw solid tiles (red overlay)
-        g.setColor(new Color(255, 0, 0, 80));
+        g.setColor(Palette.color(255, 0, 0, 80));
         for (int row = startRow; row <= endRow; row++) {
             for (int col = startCol; col <= endCol; col++) {
                 // Triple-check bounds (paranoid but safe)
@@ -790,8 +1167,8 @@ public class Renderer {
         Path path = entity.getComponent(Path.class);
         
         if (path != null && path.waypoints != null) {
-            g.setColor(new Color(0, 255, 255, 200));
-            g.setStroke(new BasicStroke(3));
+            g.setColor(Palette.color(0, 255, 255, 200));
+            g.setStroke(Palette.stroke(3));
             
             for (int i = 0; i < path.waypoints.size() - 1; i++) {
                 int[] current = path.waypoints.get(i);
@@ -836,12 +1213,12 @@ public class Renderer {
         
         int homeScreenX = (int)(ai.homeX - cameraX);
         int homeScreenY = (int)(ai.homeY - cameraY);
-        g.setColor(new Color(0, 255, 0, 100));
+        g.setColor(Palette.color(0, 255, 0, 100));
         g.fillOval(homeScreenX - 5, homeScreenY - 5, 10, 10);
         
         int roamRadius = (int)ai.roamRadius;
-        g.setColor(new Color(255, 255, 0, 80));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(Palette.color(255, 255, 0, 80));
+        g.setStroke(Palette.stroke(2));
         g.drawOval(homeScreenX - roamRadius, homeScreenY - roamRadius, roamRadius * 2, roamRadius * 2);
         
         int detectionRadius = (int)(ai.detectionRange * TileMap.TILE_SIZE);
@@ -849,19 +1226,19 @@ public class Renderer {
         int screenY = (int)(pos.y - cameraY);
         
         Color detectionColor = ai.currentState == AI.State.CHASING 
-            ? new Color(255, 0, 0, 100)
-            : new Color(100, 100, 255, 80);
+            ? Palette.color(255, 0, 0, 100)
+            : Palette.color(100, 100, 255, 80);
         g.setColor(detectionColor);
         g.drawOval(screenX - detectionRadius, screenY - detectionRadius, detectionRadius * 2, detectionRadius * 2);
         
         if (movement != null && movement.isHasted) {
-            g.setColor(new Color(255, 255, 0, 200));
-            g.setStroke(new BasicStroke(3));
+            g.setColor(Palette.color(255, 255, 0, 200));
+            g.setStroke(Palette.stroke(3));
             g.drawOval(screenX - 20, screenY - 20, 40, 40);
             g.drawString("HASTE", screenX - 20, screenY - 50);
         }
         
-        Font infoFont = new Font("Arial", Font.PLAIN, 10);
+        Font infoFont = Palette.font("Arial", Font.PLAIN, 10);
         g.setFont(infoFont);
         g.setColor(Color.WHITE);
         
@@ -876,7 +1253,7 @@ public class Renderer {
         
         if (monsterLevel != null) {
             String levelInfo = "Lv" + monsterLevel.level + " " + monsterLevel.tier;
-            g.setColor(new Color(255, 215, 0));
+            g.setColor(Palette.color(255, 215, 0));
             g.drawString(levelInfo, screenX - 30, textY);
             textY += 12;
             g.setColor(Color.WHITE);
@@ -904,9 +1281,9 @@ public class Renderer {
             int screenY = (int)(sp.y - cameraY);
             
             if (sp.isOccupied) {
-                g.setColor(new Color(0, 255, 0, 150));
+                g.setColor(Palette.color(0, 255, 0, 150));
             } else {
-                g.setColor(new Color(255, 0, 0, 150));
+                g.setColor(Palette.color(255, 0, 0, 150));
             }
             g.fillOval(screenX - 8, screenY - 8, 16, 16);
             
@@ -914,7 +1291,7 @@ public class Renderer {
             g.drawOval(screenX - 8, screenY - 8, 16, 16);
             
             if (!sp.isOccupied) {
-                float timeLeft = sp.respawnDelay - sp.respawnTimer;
+                float timeLeft = sp.getRespawnRemaining(gameState.getTimers().now());
                 String timerText = String.format("%.1fs", timeLeft);
                 
                 FontMetrics fm = g.getFontMetrics();
@@ -0,0 +1,64 @@
+package dev.main.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ★ NEW: Lock-free triple buffer of RenderSnapshots.
+ *
+ * The simulation thread fills the back buffer and publishes it; the render
+ * thread always picks up the newest published snapshot. Neither side ever
+ * waits for the other, and a snapshot is never written while it is drawn.
+ */
+public class SnapshotBuffer {
+
+    private static final int DIRTY = 4;       // "middle holds an unread frame"
+    private static final int INDEX_MASK = 3;
+
+    private final RenderSnapshot[] buffers = new RenderSnapshot[3];
+
+    // Index of the shared (middle) buffer, plus DIRTY flag
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    private int back = 0;   // owned by the writer
+    private int front = 2;  // owned by the reader
+
+    public SnapshotBuffer() {
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = new RenderSnapshot();
+        }
+    }
+
+    /**
+     * Writer: the snapshot to fill this tick
+     */
+    public RenderSnapshot getWriteBuffer() {
+        return buffers[back];
+    }
+
+    /**
+     * Writer: hand the filled snapshot to the reader
+     */
+    public void publish() {
+        int previous = middle.getAndSet(back | DIRTY);
+        back = previous & INDEX_MASK;
+    }
+
+    /**
+     * Reader: true if a snapshot newer than the current front one is waiting
+     */
+    public boolean hasNewSnapshot() {
+        return (middle.get() & DIRTY) != 0;
+    }
+
+    /**
+     * Reader: newest published snapshot, or null if nothing was published yet
+     */
+    public RenderSnapshot acquireLatest() {
+        if (hasNewSnapshot()) {
+            int previous = middle.getAndSet(front);
+            front = previous & INDEX_MASK;
+        }
+        RenderSnapshot snapshot = buffers[front];
+        return snapshot.tick > 0 ? snapshot : null;
+    }
+}
@@ -0,0 +1,210 @@
+package dev.main.render;
+
+import java.util.List;
+
+import dev.main.Engine;
+import dev.main.bars.HealthBar;
+import dev.main.bars.ManaBar;
+import dev.main.bars.StaminaBar;
+import dev.main.entity.Entity;
+import dev.main.entity.EntityType;
+import dev.main.entity.Experience;
+import dev.main.entity.LevelUpEffect;
+import dev.main.entity.MonsterLevel;
+import dev.main.entity.NameTag;
+import dev.main.entity.Portal;
+import dev.main.entity.TargetIndicator;
+import dev.main.input.Position;
+import dev.main.quest.QuestIndicator;
+import dev.main.sprite.Sprite;
+import dev.main.state.GameState;
+import dev.main.stats.Stats;
+import dev.main.ui.TransitionEffect;
+import dev.main.util.Alert;
+import dev.main.util.DamageText;
+import dev.main.util.Dead;
+
+/**
+ * ★ NEW: Copies everything the world renderer needs out of GameState.
+ * Runs on the simulation thread, right after a tick, so it sees a consistent state.
+ */
+public class SnapshotBuilder {
+
+    private long tick = 0;
+
+    private final DepthSort depthSort = new DepthSort();  // ★ NEW: Radix sort on packed keys, no comparator calls
+    private final ViewCuller viewCuller = new ViewCuller();  // ★ NEW: Only capture what can be on screen
+
+    public void capture(GameState state, RenderSnapshot out) {
+        out.clear();
+        out.tick = ++tick;
+        out.captureNanos = System.nanoTime();
+        out.gameTime = state.getGameTime();
+        out.cameraX = state.getCameraX();
+        out.cameraY = state.getCameraY();
+        out.prevCameraX = state.getPrevCameraX();
+        out.prevCameraY = state.getPrevCameraY();
+        out.map = state.getMap();
+
+        TransitionEffect transition = state.getTransitionEffect();
+        if (transition != null && transition.isActive()) {
+            out.transitionAlpha = transition.getOverlayAlpha();
+        }
+
+        // ★ NEW: Cull to the union of last and current camera rects - the render
+        // thread interpolates between them
+        float viewMinX = Math.min(out.prevCameraX, out.cameraX);
+        float viewMinY = Math.min(out.prevCameraY, out.cameraY);
+        float viewMaxX = Math.max(out.prevCameraX, out.cameraX) + Engine.WIDTH;
+        float viewMaxY = Math.max(out.prevCameraY, out.cameraY) + Engine.HEIGHT;
+        List<Entity> candidates = viewCuller.collect(state.getSpatialHash(), viewMinX, viewMinY, viewMaxX, viewMaxY);
+
+        for (Entity entity : candidates) {
+            captureGroundDecor(entity, out);
+
+            Position pos = entity.getComponent(Position.class);
+            Renderable renderable = entity.getComponent(Renderable.class);
+            Sprite sprite = entity.getComponent(Sprite.class);
+
+            if (pos == null) continue;
+
+            if (entity.getType() == EntityType.NPC) {
+                captureQuestMark(entity, pos, out);
+            }
+
+            if (renderable != null && sprite != null && renderable.layer == RenderLayer.ENTITIES
+                    && viewCuller.isVisible(sprite, pos.x, pos.y)) {
+                captureEntity(entity, pos, renderable, sprite, out);
+            }
+        }
+
+        depthSort.radixSort(out.entities);
+
+        for (DamageText dt : state.getDamageTexts()) {
+            RenderSnapshot.TextView view = out.addText();
+            view.text = dt.text;
+            view.type = dt.type;
+            view.color = dt.color;
+            view.x = dt.worldX;
+            view.y = dt.worldY;
+            view.alpha = dt.getAlpha();
+        }
+    }
+
+    private void captureGroundDecor(Entity entity, RenderSnapshot out) {
+        if (entity.getType() == EntityType.PORTAL) {
+            Position pos = entity.getComponent(Position.class);
+            Portal portal = entity.getComponent(Portal.class);
+            if (pos != null && portal != null && portal.isActive) {
+                RenderSnapshot.MarkerView view = out.addMarker(out.portals);
+                view.x = pos.x;
+                view.y = pos.y;
+                view.value = portal.animationTimer;
+            }
+        }
+
+        TargetIndicator indicator = entity.getComponent(TargetIndicator.class);
+        if (indicator != null && indicator.active) {
+            RenderSnapshot.MarkerView view = out.addMarker(out.targetMarkers);
+            view.x = indicator.worldX;
+            view.y = indicator.worldY;
+            view.value = indicator.pulseScale;
+        }
+    }
+
+    private void captureQuestMark(Entity entity, Position pos, RenderSnapshot out) {
+        if (entity.getComponent(Dead.class) != null) return;
+
+        QuestIndicator qi = entity.getComponent(QuestIndicator.class);
+        if (qi == null || !qi.active) return;
+
+        RenderSnapshot.QuestMarkView view = out.addQuestMark();
+        view.symbol = qi.getSymbol();
+        view.color = qi.getColor();
+        view.x = pos.x;
+        view.y = pos.y + qi.offsetY + qi.bounceOffset;
+    }
+
+    private void captureEntity(Entity entity, Position pos, Renderable renderable, Sprite sprite, RenderSnapshot out) {
+        RenderSnapshot.EntityView view = out.addEntity();
+        EntityType type = entity.getType();
+
+        view.entityId = entity.getID();
+        view.type = type;
+        view.x = pos.x;
+        view.y = pos.y;
+        view.prevX = pos.prevX;
+        view.prevY = pos.prevY;
+        view.layerPriority = renderable.layer.priority;
+        view.depth = pos.y + renderable.depthOffset;
+        view.sortKey = DepthSort.packKey(view.layerPriority, view.depth);
+
+        view.sheet = sprite.getSpriteSheet();
+        view.srcX = sprite.getSourceX();
+        view.srcY = sprite.getSourceY();
+        view.frameWidth = sprite.getFrameWidth();
+        view.frameHeight = sprite.getFrameHeight();
+
+        view.dead = entity.getComponent(Dead.class) != null;
+        if (view.dead) return;  // corpses get no world UI
+
+        MonsterLevel monsterLevel = type == EntityType.MONSTER ? entity.getComponent(MonsterLevel.class) : null;
+
+        NameTag nameTag = entity.getComponent(NameTag.class);
+        if (nameTag != null && nameTag.visible) {
+            view.nameText = nameTag.displayName;
+            view.nameColor = java.awt.Color.WHITE;
+            view.nameOffsetY = nameTag.offsetY;
+            if (monsterLevel != null) {
+                String tierPrefix = Renderer.getTierPrefix(monsterLevel.tier);
+                if (tierPrefix != null) {
+                    view.nameText = tierPrefix + view.nameText;
+                }
+                view.nameColor = Renderer.getTierColor(monsterLevel.tier);
+                view.badgeLevel = monsterLevel.level;
+                view.badgeTier = monsterLevel.tier;
+            }
+        }
+
+        Stats stats = entity.getComponent(Stats.class);
+        HealthBar hpBar = entity.getComponent(HealthBar.class);
+        if (stats != null && hpBar != null) {
+            view.healthBar = hpBar;
+            view.hp = stats.hp;
+            view.maxHp = stats.maxHp;
+        }
+
+        Alert alert = entity.getComponent(Alert.class);
+        if (alert != null && alert.active) {
+            view.alertOffsetY = alert.offsetY + alert.bounceOffset;
+        }
+
+        if (type != EntityType.PLAYER) return;
+
+        Experience exp = entity.getComponent(Experience.class);
+        if (exp != null) {
+            view.badgeLevel = exp.level;
+            view.xpProgress = exp.getXPProgress();
+        }
+
+        StaminaBar staminaBar = entity.getComponent(StaminaBar.class);
+        if (stats != null && staminaBar != null) {
+            view.staminaBar = staminaBar;
+            view.stamina = stats.stamina;
+            view.maxStamina = stats.maxStamina;
+        }
+
+        ManaBar manaBar = entity.getComponent(ManaBar.class);
+        if (stats != null && manaBar != null) {
+            view.manaBar = manaBar;
+            view.mana = stats.mana;
+            view.maxMana = stats.maxMana;
+        }
+
+        LevelUpEffect levelUpEffect = entity.getComponent(LevelUpEffect.class);
+        if (levelUpEffect != null && levelUpEffect.active) {
+            view.levelUpAlpha = levelUpEffect.getAlpha();
+            view.levelUpLevel = levelUpEffect.newLevel;
+        }
+    }
+}
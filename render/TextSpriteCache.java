@@ -0,0 +1,154 @@
+package dev.main.render;
+
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ★ NEW: Pre-rendered text sprites (name tags, badges, damage numbers).
+ *
+ * Text is laid out and rasterized - fill plus a black drop shadow - once into
+ * an ARGB image keyed by (string, font, fill color, shadow offset), then
+ * blitted. Fades go through AlphaComposite instead of a new Color per draw.
+ * Least recently used entries are evicted past MAX_ENTRIES. Render thread only.
+ */
+public class TextSpriteCache {
+
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * A rasterized string. The text baseline origin sits at (originX, originY)
+     * inside the image; advance is the width drawString would have used.
+     */
+    public static final class TextSprite {
+        final BufferedImage image;
+        final int originX;
+        final int originY;
+        public final int advance;
+
+        TextSprite(BufferedImage image, int originX, int originY, int advance) {
+            this.image = image;
+            this.originX = originX;
+            this.originY = originY;
+            this.advance = advance;
+        }
+    }
+
+    private static final class Key {
+        String text;
+        Font font;
+        int rgb;
+        int shadowOffset;
+
+        Key set(String text, Font font, int rgb, int shadowOffset) {
+            this.text = text;
+            this.font = font;
+            this.rgb = rgb;
+            this.shadowOffset = shadowOffset;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) return false;
+            Key k = (Key)o;
+            return rgb == k.rgb && shadowOffset == k.shadowOffset
+                && text.equals(k.text) && font.equals(k.font);
+        }
+
+        @Override
+        public int hashCode() {
+            // By hand - Objects.hash boxes and allocates a varargs array per lookup
+            return 31 * (31 * (31 * text.hashCode() + font.hashCode()) + rgb) + shadowOffset;
+        }
+    }
+
+    private final Map<Key, TextSprite> cache = new LinkedHashMap<Key, TextSprite>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, TextSprite> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private final Key probe = new Key();  // lookups don't allocate a key
+
+    private final Graphics2D measure = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+
+    private long misses = 0;
+
+    /**
+     * Sprite for text in font, filled with color (alpha ignored - use the fade
+     * argument of draw), with a black shadow shadowOffset pixels down-right (0 = none)
+     */
+    public TextSprite get(String text, Font font, Color color, int shadowOffset) {
+        int rgb = color.getRGB() | 0xFF000000;
+        TextSprite sprite = cache.get(probe.set(text, font, rgb, shadowOffset));
+        if (sprite == null) {
+            sprite = render(text, font, new Color(rgb), shadowOffset);
+            cache.put(new Key().set(text, font, rgb, shadowOffset), sprite);
+            misses++;
+        }
+        probe.text = null;
+        return sprite;
+    }
+
+    /**
+     * Draw so the text baseline starts at (x, y), like drawString
+     */
+    public static void draw(Graphics2D g, TextSprite sprite, int x, int y, float fade) {
+        if (fade <= 0f) return;
+
+        if (fade >= 1f) {
+            g.drawImage(sprite.image, x - sprite.originX, y - sprite.originY, null);
+            return;
+        }
+
+        Composite original = g.getComposite();
+        g.setComposite(AlphaComposite.SrcOver.derive(fade));
+        g.drawImage(sprite.image, x - sprite.originX, y - sprite.originY, null);
+        g.setComposite(original);
+    }
+
+    private TextSprite render(String text, Font font, Color color, int shadowOffset) {
+        FontMetrics fm = measure.getFontMetrics(font);
+        int advance = fm.stringWidth(text);
+
+        // Pad for glyph overhang (italics, descenders) and the shadow
+        int pad = 2;
+        int width = Math.max(1, advance + shadowOffset + pad * 2);
+        int height = Math.max(1, fm.getAscent() + fm.getDescent() + shadowOffset + pad * 2);
+        int originX = pad;
+        int originY = pad + fm.getAscent();
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setFont(font);
+        if (shadowOffset > 0) {
+            g.setColor(Color.BLACK);
+            g.drawString(text, originX + shadowOffset, originY + shadowOffset);
+        }
+        g.setColor(color);
+        g.drawString(text, originX, originY);
+        g.dispose();
+
+        return new TextSprite(image, originX, originY, advance);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public String getStatsString() {
+        return String.format("Text sprites: %d cached, %d rendered", cache.size(), misses);
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+}
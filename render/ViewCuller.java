@@ -0,0 +1,55 @@
+package dev.main.render;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import dev.main.entity.Entity;
+import dev.main.entity.SpatialHash;
+import dev.main.sprite.Sprite;
+
+/**
+ * ★ NEW: Camera-rect culling for the entity layer.
+ *
+ * Candidates come from the spatial hash (view rect grown by the largest
+ * sprite half-extent), then each one is tested with its own frame bounds
+ * plus room for the overhead bars, name tag, level badge and alert, so
+ * nothing that would show on screen is dropped.
+ */
+public class ViewCuller {
+
+    private static final float MAX_SPRITE_HALF_EXTENT = 320f;  // tree sprites are 591x545
+    private static final float OVERHEAD_PAD = 64f;  // name tag / badge / alert above the frame
+    private static final float SIDE_PAD = 32f;      // bars are wider than small sprites
+
+    private final List<Entity> candidates = new ArrayList<>();
+
+    private float viewMinX, viewMinY, viewMaxX, viewMaxY;
+
+    /**
+     * Entities that might be on screen in the given world rect. The returned
+     * list is reused by the next call.
+     */
+    public List<Entity> collect(SpatialHash spatialHash, float minX, float minY, float maxX, float maxY) {
+        viewMinX = minX;
+        viewMinY = minY;
+        viewMaxX = maxX;
+        viewMaxY = maxY;
+
+        candidates.clear();
+        spatialHash.queryAABB(minX - MAX_SPRITE_HALF_EXTENT, minY - MAX_SPRITE_HALF_EXTENT,
+                              maxX + MAX_SPRITE_HALF_EXTENT, maxY + MAX_SPRITE_HALF_EXTENT,
+                              null, candidates);
+        return candidates;
+    }
+
+    /**
+     * Does a sprite centered on (x, y), with its overhead UI, touch the last collect() rect?
+     */
+    public boolean isVisible(Sprite sprite, float x, float y) {
+        float halfW = sprite.getFrameWidth() / 2f + SIDE_PAD;
+        float halfH = sprite.getFrameHeight() / 2f;
+
+        return x + halfW >= viewMinX && x - halfW <= viewMaxX
+            && y + halfH >= viewMinY && y - halfH - OVERHEAD_PAD <= viewMaxY;
+    }
+}
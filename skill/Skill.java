@@ -2,6 +2,8 @@ package dev.main.skill;
 
 import java.awt.Color;
 
+import dev.main.util.TimerWheel;
+
 /**
  * Represents a skill that can be equipped in skill slots
  */
@@ -23,7 +25,7 @@ public class Skill {
     
     // Skill properties
     private float cooldown;
-    private float currentCooldown;
+    private final TimerWheel.Timer cooldownTimer = new TimerWheel.Timer();  // ★ UPDATED: Game clock cooldown
     private int baseManaPercent;  // ☆ NEW: Base mana cost as % of max mana (e.g., 12 for 12%)
     private int levelRequired;
     
@@ -41,7 +43,6 @@ public class Skill {
         this.description = description;
         this.type = type;
         this.cooldown = cooldown;
-        this.currentCooldown = 0;
         this.baseManaPercent = baseManaPercent;  // ☆ NEW: Store as percentage
         this.levelRequired = levelRequired;
         this.iconPath = null;
@@ -73,24 +74,12 @@ public class Skill {
     }
     
     /**
-     * Update cooldown timer
-     */
-    public void update(float delta) {
-        if (currentCooldown > 0) {
-            currentCooldown -= delta;
-            if (currentCooldown < 0) {
-                currentCooldown = 0;
-            }
-        }
-    }
-    
-    /**
-     * Use the skill (start cooldown)
+     * Use the skill (start cooldown on the game clock)
      */
-    public boolean use() {
+    public boolean use(TimerWheel timers) {
         if (!isReady()) return false;
         
-        currentCooldown = cooldown;
+        timers.schedule(cooldownTimer, cooldown);
         return true;
     }
     
@@ -98,7 +87,7 @@ public class Skill {
      * Check if skill is ready to use
      */
     public boolean isReady() {
-        return currentCooldown <= 0;
+        return !cooldownTimer.isPending();
     }
     
     /**
@@ -106,14 +95,14 @@ public class Skill {
      */
     public float getCooldownProgress() {
         if (cooldown <= 0) return 0f;
-        return currentCooldown / cooldown;
+        return cooldownTimer.getRemaining() / cooldown;
     }
     
     /**
      * Get remaining cooldown time
      */
     public float getRemainingCooldown() {
-        return currentCooldown;
+        return cooldownTimer.getRemaining();
     }
     
     /**
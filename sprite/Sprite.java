@@ -73,6 +73,7 @@ public class Sprite implements Component {
     public static final String ANIM_ATTACK_UP_RIGHT = "attack_up_right";
     
     private BufferedImage spriteSheet;
+    private SpriteAtlas.Sheet atlas;  // ★ NEW: Pre-sliced frames, resolved on first draw
     private int frameWidth;
     private int frameHeight;
     
@@ -152,14 +153,40 @@ public class Sprite implements Component {
     public void renderAtPixel(Graphics2D g, int screenX, int screenY) {
         if (spriteSheet == null || cachedAnimation == null) return;  // ⭐ Use cache
         
-        int srcX = currentFrame * frameWidth;
-        int srcY = cachedAnimation.row * frameHeight;  // ⭐ Use cache
+        // ★ UPDATED: Blit the pre-sliced frame; no per-draw atlas lookup
+        if (atlas == null) {
+            atlas = SpriteAtlas.get(spriteSheet, frameWidth, frameHeight);
+        }
+        BufferedImage frame = atlas != null ? atlas.getFrame(cachedAnimation.row, currentFrame) : null;
+        if (frame != null) {
+            g.drawImage(frame, screenX - frameWidth / 2, screenY - frameHeight / 2, null);
+            return;
+        }
+        drawFrame(g, spriteSheet, getSourceX(), getSourceY(), frameWidth, frameHeight, screenX, screenY);
+    }
+    
+    /**
+     * ★ NEW: Draw one frame of a sheet centered on a screen pixel.
+     * Shared by renderAtPixel() and the render-thread snapshot path,
+     * which only holds the captured sheet and source rectangle.
+     * ★ UPDATED: Uses the SpriteAtlas slice when there is one
+     */
+    public static void drawFrame(Graphics2D g, BufferedImage sheet, int srcX, int srcY,
+                                 int frameWidth, int frameHeight, int screenX, int screenY) {
+        if (sheet == null) return;
         
         int destX = screenX - frameWidth / 2;
         int destY = screenY - frameHeight / 2;
         
+        BufferedImage frame = SpriteAtlas.getFrame(sheet, srcX, srcY, frameWidth, frameHeight);
+        if (frame != null) {
+            g.drawImage(frame, destX, destY, null);
+            return;
+        }
+        
+        // Sub-rectangle of the raw sheet (slow path: unaccelerated formats)
         g.drawImage(
-            spriteSheet,
+            sheet,
             destX, destY, destX + frameWidth, destY + frameHeight,
             srcX, srcY, srcX + frameWidth, srcY + frameHeight,
             null
@@ -175,6 +202,12 @@ public class Sprite implements Component {
         int destX = (int)Math.round(x - cameraX - frameWidth / 2f);
         int destY = (int)Math.round(y - cameraY - frameHeight / 2f);
         
+        BufferedImage frame = SpriteAtlas.getFrame(spriteSheet, srcX, srcY, frameWidth, frameHeight);
+        if (frame != null) {
+            g.drawImage(frame, destX, destY, null);
+            return;
+        }
+        
         g.drawImage(
             spriteSheet,
             destX, destY, destX + frameWidth, destY + frameHeight,
@@ -207,6 +240,40 @@ public class Sprite implements Component {
         this.loopAnimation = !"dead".equals(animationName);
     }
     
+    /**
+     * ★ NEW: Back to the initial idle frame (pooled monster respawn)
+     */
+    public void reset() {
+        this.currentFrame = 0;
+        this.animationTimer = 0;
+        this.loopAnimation = true;
+        if (!isStatic) {
+            this.currentAnimation = ANIM_IDLE_DOWN;
+            this.cachedAnimation = animations.get(ANIM_IDLE_DOWN);
+        }
+    }
+    
+    // ★ NEW: Frame accessors for snapshot capture
+    public BufferedImage getSpriteSheet() {
+        return cachedAnimation != null ? spriteSheet : null;
+    }
+    
+    public int getSourceX() {
+        return currentFrame * frameWidth;
+    }
+    
+    public int getSourceY() {
+        return cachedAnimation != null ? cachedAnimation.row * frameHeight : 0;
+    }
+    
+    public int getFrameWidth() {
+        return frameWidth;
+    }
+    
+    public int getFrameHeight() {
+        return frameHeight;
+    }
+    
     public boolean isAnimationFinished() {
         if (isStatic) return true;
         if (cachedAnimation == null) return true;  // ⭐ Use cache
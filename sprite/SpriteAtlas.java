@@ -0,0 +1,133 @@
+package dev.main.sprite;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ★ NEW: Display-compatible, pre-sliced sprite frames.
+ *
+ * Sheets come out of ImageIO in whatever format the PNG had (often indexed
+ * or TYPE_4BYTE_ABGR), which Java2D can't accelerate - every sub-rectangle
+ * blit goes through a software loop. The first time a sheet is drawn it is
+ * cut into one image per (row, frame), each created with the screen's
+ * GraphicsConfiguration.createCompatibleImage, so the pipeline can cache
+ * them as managed images and draw them with a plain copy.
+ *
+ * Frames are only ever drawn into once (never getRaster()'d afterwards),
+ * which keeps them eligible for acceleration.
+ */
+public class SpriteAtlas {
+
+    /**
+     * All frames of one sheet at one frame size
+     */
+    public static final class Sheet {
+        private final int frameWidth;
+        private final int frameHeight;
+        private final BufferedImage[][] frames;  // [row][frame]
+
+        private Sheet(BufferedImage source, int frameWidth, int frameHeight) {
+            this.frameWidth = frameWidth;
+            this.frameHeight = frameHeight;
+
+            int rows = Math.max(1, source.getHeight() / frameHeight);
+            int cols = Math.max(1, source.getWidth() / frameWidth);
+            this.frames = new BufferedImage[rows][cols];
+
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    frames[row][col] = slice(source, col * frameWidth, row * frameHeight, frameWidth, frameHeight);
+                }
+            }
+        }
+
+        /**
+         * Frame image, or null if (row, frame) is outside the sheet
+         */
+        public BufferedImage getFrame(int row, int frame) {
+            if (row < 0 || row >= frames.length) return null;
+            BufferedImage[] cols = frames[row];
+            if (frame < 0 || frame >= cols.length) return null;
+            return cols[frame];
+        }
+
+        public boolean matches(int frameWidth, int frameHeight) {
+            return this.frameWidth == frameWidth && this.frameHeight == frameHeight;
+        }
+    }
+
+    // Keyed by sheet identity (BufferedImage doesn't override equals)
+    private static final Map<BufferedImage, Sheet> sheets = new ConcurrentHashMap<>();
+
+    private static volatile GraphicsConfiguration config;
+
+    /**
+     * Sliced frames for a sheet, built on first use. Null if the sheet was
+     * already sliced at a different frame size (callers fall back to a sub-rect blit).
+     */
+    public static Sheet get(BufferedImage source, int frameWidth, int frameHeight) {
+        if (source == null || frameWidth <= 0 || frameHeight <= 0) return null;
+
+        Sheet sheet = sheets.computeIfAbsent(source, s -> new Sheet(s, frameWidth, frameHeight));
+        return sheet.matches(frameWidth, frameHeight) ? sheet : null;
+    }
+
+    /**
+     * Frame for a source rectangle of a sheet (as captured in snapshots)
+     */
+    public static BufferedImage getFrame(BufferedImage source, int srcX, int srcY, int frameWidth, int frameHeight) {
+        Sheet sheet = get(source, frameWidth, frameHeight);
+        return sheet != null ? sheet.getFrame(srcY / frameHeight, srcX / frameWidth) : null;
+    }
+
+    /**
+     * Copy of a region in the display's native format. Also used for any
+     * other image that gets drawn every frame.
+     */
+    public static BufferedImage slice(BufferedImage source, int x, int y, int width, int height) {
+        BufferedImage image = createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+
+        Graphics2D g = image.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(source, 0, 0, width, height, x, y, x + width, y + height, null);
+        g.dispose();
+
+        return image;
+    }
+
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        // Headless (zone servers): no screen to match, pick the fastest generic format
+        return new BufferedImage(width, height, transparency == Transparency.OPAQUE
+                                                ? BufferedImage.TYPE_INT_RGB
+                                                : BufferedImage.TYPE_INT_ARGB_PRE);
+    }
+
+    private static GraphicsConfiguration getConfiguration() {
+        if (config == null && !GraphicsEnvironment.isHeadless()) {
+            config = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                                        .getDefaultScreenDevice()
+                                        .getDefaultConfiguration();
+        }
+        return config;
+    }
+
+    public static int getSheetCount() {
+        return sheets.size();
+    }
+
+    // Drop all slices (e.g. after TextureManager.clear() or a display change)
+    public static void clear() {
+        sheets.clear();
+        config = null;
+    }
+}
@@ -2,8 +2,8 @@ package dev.main.sprite;
 
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
@@ -11,17 +11,21 @@ import dev.main.ui.UIIconGenerator;
 
 public class TextureManager {
 
-    private static final Map<String, BufferedImage> cache = new HashMap<>();
+    // ★ NEW: Concurrent - zone threads load textures when they spawn monsters
+    private static final Map<String, BufferedImage> cache = new ConcurrentHashMap<>();
 
     // Load and cache an image
     public static BufferedImage load(String path) {
-        if (cache.containsKey(path)) {
-            return cache.get(path);
+        BufferedImage cached = cache.get(path);
+        if (cached != null) {
+            return cached;
         }
 
         try {
             BufferedImage img = ImageIO.read(TextureManager.class.getResourceAsStream(path));
-            cache.put(path, img);
+            if (img != null) {
+                cache.put(path, img);
+            }
             return img;
         } catch (IOException | IllegalArgumentException | NullPointerException e) {
             // ☆ NEW: Generate placeholder items if file not found
@@ -107,5 +111,6 @@ public class TextureManager {
     // Optional: clear cache (useful for dev reloads)
     public static void clear() {
         cache.clear();
+        SpriteAtlas.clear();  // ★ NEW: Slices belong to the old images
     }
 }
\ No newline at end of file
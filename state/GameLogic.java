@@ -1,16 +1,22 @@
 package dev.main.state;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import dev.main.Engine;
 import dev.main.ai.AI; 
+import dev.main.ai.CrowdSteering;
+import dev.main.ai.PerceptionScheduler;
 import dev.main.buffs.BuffManager;
 import dev.main.drops.DropSystem;
 import dev.main.drops.DroppedItem;
 import dev.main.drops.ZoneLootConfig.GuaranteedDrop;
+import dev.main.entity.CollisionBroadphase;
 import dev.main.entity.Combat;
 import dev.main.entity.Entity;
+import dev.main.entity.EntityHandles;
 import dev.main.entity.EntityType;
 import dev.main.entity.Experience;
 import dev.main.entity.LevelUpEffect;
@@ -51,6 +57,22 @@ public class GameLogic {
     private GameState state;
     private float cameraLerpSpeed = 5f;
     
+    // ★ NEW: Monster simulation LOD by distance to the nearest player.
+    // Full range covers the 640x640 view plus a margin so nothing visible is degraded.
+    private static final float LOD_FULL_RANGE = 10 * TileMap.TILE_SIZE;
+    private static final float LOD_REDUCED_RANGE = 24 * TileMap.TILE_SIZE;
+    private static final float LOD_HYSTERESIS = TileMap.TILE_SIZE;  // no flapping on the boundary
+    private static final float LOD_REDUCED_INTERVAL = 0.25f;        // reduced AI runs at 4 Hz
+    private static final int LOD_MAX_CATCH_UP_STEPS = 40;           // movement replay cap (10s)
+    
+    private final List<Position> playerPositions = new ArrayList<>();
+    
+    // ★ NEW: Idle/roaming mobs look for the player in staggered buckets
+    private final PerceptionScheduler perception = new PerceptionScheduler();
+    
+    private final CrowdSteering crowd;  // ★ NEW: Separation/arrival for monster movement
+    private final int[] simLevelCounts = new int[AI.SimLevel.values().length];
+    
     // ★ NEW: Stuck detection
     private static final float STUCK_TIMEOUT = 0.5f; // Half second without movement = stuck
     private static final float MIN_MOVEMENT = 2f; // Minimum pixels to consider "moved"
@@ -64,6 +86,8 @@ public class GameLogic {
         this.state = state;
         this.dropSystem = new DropSystem();
         this.ui = state.getUIManager();
+        this.crowd = new CrowdSteering(state.getSpatialHash());
+        registerContactListeners();
         
         // ★ NEW: Set zone loot config if available
         if (state.getZoneLootConfig() != null) {
@@ -75,6 +99,7 @@ public class GameLogic {
 
     public void update(float delta) {
     	
+        state.savePreviousPositions();  // ★ NEW: For render interpolation
         state.incrementGameTime(delta);
         state.updatePortalCooldown(delta);  // ★ ADD THIS
         state.updateTransition(delta);  // ★ NEW: Update transition
@@ -84,16 +109,24 @@ public class GameLogic {
             return;
         }
         
+        state.getTimers().advance(delta);  // ★ NEW: Fire due cooldowns/expiries
+        
         IntroQuestHandler introHandler = state.getIntroQuestHandler();
         if (introHandler != null) {
             introHandler.update(delta);
         }
         
         Entity player = state.getPlayer();
-        Position playerPos = player.getComponent(Position.class);
+        Position playerPos = player != null ? player.getComponent(Position.class) : null;  // zones may be empty
+        
+        // ★ NEW: Spawns/removals during the tick are queued until the sync point below
+        state.getEntityList().beginDeferring();
+        collectPlayerPositions();
+        perception.beginTick(delta);
       
         for (Entity entity : state.getEntities()) {
             EntityType entityType = entity.getType();
+            boolean animate = true;
             
             Combat combat = entity.getComponent(Combat.class);
             if (combat != null) {
@@ -109,14 +142,14 @@ public class GameLogic {
             }else if (entityType == EntityType.PLAYER) {
                 updatePlayer(entity, delta);
             } else if (entityType == EntityType.MONSTER) {
-                updateMonster(entity, playerPos, delta);
+                animate = updateMonsterLOD(entity, playerPos, delta);  // ★ NEW: LOD tiers
             } 
             else if (entityType == EntityType.NPC) {
                // updateNPC(entity, player, delta);
             }
             
             Sprite sprite = entity.getComponent(Sprite.class);
-            if (sprite != null) {
+            if (sprite != null && animate) {
                 sprite.update(delta);
             } 
             
@@ -134,63 +167,86 @@ public class GameLogic {
             if (levelUpEffect != null) {
                 levelUpEffect.update(delta);
             }
+            
+            // ★ NEW: Re-bucket if the entity crossed a cell this tick
+            state.getSpatialHash().update(entity);
         }
         
-        // ★ ADD: Check portal collisions after player update
-        checkPortalCollisions();
+        // ★ UPDATED: Broadphase after all movement - fires contact events (portals etc.)
+        state.getBroadphase().update(state.getEntityList());
         
         updateQuestIndicators(delta);
         state.updateDamageTexts(delta);
         state.updateSpawnPoints(delta);
+        
+        // ★ NEW: Sync point - apply queued structural changes, then removals (O(k))
+        state.getEntityList().endDeferring();
         state.removeMarkedEntities();
         updateCamera(delta);
     }
- // ★ UPDATED: Check portal collisions with camera control
-    private void checkPortalCollisions() {
+ // ★ UPDATED: Portal activation is driven by broadphase contact events
+    private void registerContactListeners() {
+        state.getBroadphase().addListener(new CollisionBroadphase.Listener() {
+            @Override
+            public void onEnter(Entity a, Entity b) {
+                onPortalContact(a, b);
+            }
+            
+            @Override
+            public void onStay(Entity a, Entity b) {
+                onPortalContact(a, b);  // still standing in it when the cooldown ends
+            }
+        });
+    }
+    
+    private void onPortalContact(Entity a, Entity b) {
         Entity player = state.getPlayer();
-        Position playerPos = player.getComponent(Position.class);
-        CollisionBox playerBox = player.getComponent(CollisionBox.class);
+        if (player == null) return;
+        
+        Entity entity;
+        if (a == player && b.getType() == EntityType.PORTAL) {
+            entity = b;
+        } else if (b == player && a.getType() == EntityType.PORTAL) {
+            entity = a;
+        } else {
+            return;
+        }
         
-        if (playerPos == null || playerBox == null) return;
         if (!state.isPortalReady()) return;
         
         // ★ NEW: Don't check portals during transition
         if (state.isInputBlocked()) return;
         
-        for (Entity entity : state.getEntities()) {
-            if (entity.getType() != EntityType.PORTAL) continue;
-            
-            Portal portal = entity.getComponent(Portal.class);
-            Position portalPos = entity.getComponent(Position.class);
-            CollisionBox portalBox = entity.getComponent(CollisionBox.class);
-            
-            if (portal == null || !portal.isActive) continue;
-            if (portalPos == null || portalBox == null) continue;
-            
-            if (playerBox.overlaps(playerPos.x, playerPos.y, portalBox, portalPos.x, portalPos.y)) {
-                System.out.println("🌀 Portal activated: " + portal.id);
-                
-                // ★ NEW: Disable camera lerp before teleport
-                disableCameraLerp();
-                
-                // ★ NEW: Start transition instead of instant teleport
-                state.startPortalTransition(portal.targetMap, portal.targetX, portal.targetY);
-                state.setPortalCooldown();
-                
-                // Stop player movement
-                Movement movement = player.getComponent(Movement.class);
-                if (movement != null) {
-                    movement.stopMoving();
-                }
-                
-                Path path = player.getComponent(Path.class);
-                if (path != null) {
-                    path.clear();
-                }
-                
-                break;
-            }
+        Portal portal = entity.getComponent(Portal.class);
+        if (portal == null || !portal.isActive) return;
+        
+        System.out.println("🌀 Portal activated: " + portal.id);
+        
+        // ★ NEW: Disable camera lerp before teleport
+        disableCameraLerp();
+        
+        // Stop player movement
+        Movement movement = player.getComponent(Movement.class);
+        if (movement != null) {
+            movement.stopMoving();
+        }
+        
+        Path path = player.getComponent(Path.class);
+        if (path != null) {
+            path.clear();
+        }
+        
+        // ★ NEW: Zone mode - hand the player to the target zone's thread.
+        // Must be the last touch: after transfer() the entity belongs to that zone.
+        World world = state.getWorld();
+        boolean handedOff = world != null &&
+            world.transfer(state, player, portal.targetMap, portal.targetX, portal.targetY);
+        
+        if (!handedOff) {
+            // ★ NEW: Start transition instead of instant teleport
+            state.startPortalTransition(portal.targetMap, portal.targetX, portal.targetY);
         }
+        state.setPortalCooldown();
     }
     /**
      * ★ NEW: Find path with collision box awareness
@@ -259,7 +315,7 @@ public class GameLogic {
             playerMovement.stopMoving();
             
             if (playerStats.consumeStaminaForAttack()) {
-                playerCombat.startAttack(target);
+                playerCombat.startAttack(target, state.getTimers());
             } else {
                 System.out.println("Not enough stamina to attack!");
             }
@@ -346,7 +402,7 @@ public class GameLogic {
 
                         if (killerAI != null) {
                             killerAI.currentState = AI.State.VICTORY_IDLE;
-                            killerAI.victoryIdleTimer = 0f;
+                            state.getTimers().schedule(killerAI.victoryIdleTimer, killerAI.victoryIdleDuration);
                         }
 
                         if (killerSprite != null) {
@@ -373,13 +429,15 @@ public class GameLogic {
                     targetAI.currentState == AI.State.ROAMING || 
                     targetAI.currentState == AI.State.RETURNING) {
                     transitionAIState(target, targetAI, AI.State.CHASING);
-                    targetAI.target = attacker;
+                    targetAI.setTarget(attacker);
                 }
             }
         }
     }
     
     private void reduceDurability() {
+        if (ui == null) return;  // headless: no gear UI
+        
         if(ui.getGearSlot(UIGearSlot.SlotType.WEAPON) != null &&
            ui.getGearSlot(UIGearSlot.SlotType.WEAPON).getItem() != null &&
            ui.getGearSlot(UIGearSlot.SlotType.WEAPON).getItem().getCurrentDurability() > 0) {
@@ -427,7 +485,6 @@ public class GameLogic {
             if (sprite != null) {
                 sprite.setAnimation(Sprite.ANIM_DEAD);
             }
-            dead.update(delta);
             return;
         }
         
@@ -438,8 +495,6 @@ public class GameLogic {
         
         BuffManager buffManager = player.getComponent(BuffManager.class);
         if (buffManager != null) {
-            buffManager.update(delta);
-            
             float healthRegen = buffManager.getTotalHealthRegen();
             if (healthRegen > 0 && stats.hp < stats.maxHp) {
                 stats.hp = Math.min(stats.maxHp, stats.hp + (int)(healthRegen * delta));
@@ -477,10 +532,11 @@ public class GameLogic {
         }
         stats.regenerateStaminaByState(staminaState, delta);
         
-        if (combat != null && combat.shouldDealDamage() && combat.attackTarget != null) {
-            Position targetPos = combat.attackTarget.getComponent(Position.class);
+        Entity attackTarget = combat != null ? combat.getAttackTarget() : null;
+        if (combat != null && combat.shouldDealDamage() && attackTarget != null) {
+            Position targetPos = attackTarget.getComponent(Position.class);
             if (targetPos != null) {
-                performAttack(player, combat.attackTarget, position, targetPos);
+                performAttack(player, attackTarget, position, targetPos);
             }
         }
         
@@ -560,7 +616,7 @@ public class GameLogic {
                             if (indicator != null) indicator.clear();
                             
                             if (stats.consumeStaminaForAttack()) {
-                                combat.startAttack(autoAttackTarget);
+                                combat.startAttack(autoAttackTarget, state.getTimers());
                             } else {
                                 System.out.println("Not enough stamina to attack!");
                             }
@@ -658,11 +714,7 @@ public class GameLogic {
         if (position == null || ai == null) return;
         
         if (dead != null) {
-            dead.update(delta);
-            if (dead.shouldRemove()) {
-                state.markForRemoval(monster);
-            }
-            return;
+            return;  // ★ NEW: Corpse removal is a timer callback (see handleMonsterDeath)
         }
         
         if (stats != null && stats.hp <= 0) {
@@ -670,15 +722,14 @@ public class GameLogic {
             return;
         }
         
-        if (combat != null && combat.shouldDealDamage() && combat.attackTarget != null) {
-            Position targetPos = combat.attackTarget.getComponent(Position.class);
+        Entity attackTarget = combat != null ? combat.getAttackTarget() : null;
+        if (combat != null && combat.shouldDealDamage() && attackTarget != null) {
+            Position targetPos = attackTarget.getComponent(Position.class);
             if (targetPos != null) {
-                performAttack(monster, combat.attackTarget, position, targetPos);
+                performAttack(monster, attackTarget, position, targetPos);
             }
         }
         
-        ai.update(delta);
-        
         if (alert != null) {
             alert.update(delta);
             
@@ -723,19 +774,168 @@ public class GameLogic {
         
         if (movement != null && movement.isMoving) {
             moveTowardsTarget(monster, movement, position, delta);
+        } else if (movement != null &&
+                   (ai.currentState == AI.State.ATTACKING || ai.currentState == AI.State.CHASING)) {
+            applyCrowdSeparation(monster, movement, position, delta);
         }
         
         if (path != null && path.isFollowing) {
             followPath(monster, path, movement, position, delta);
         }
     }
+    
+    /**
+     * ★ NEW: A pack standing around the player drifts apart instead of stacking
+     */
+    private void applyCrowdSeparation(Entity monster, Movement movement, Position position, float delta) {
+        if (!crowd.separate(monster, position, movement, movement.walkSpeed * 0.5f)) return;
+        
+        float newX = position.x + movement.velocityX * delta;
+        float newY = position.y + movement.velocityY * delta;
+        
+        CollisionBox collisionBox = monster.getComponent(CollisionBox.class);
+        TileMap map = state.getMap();
+        if (collisionBox != null && map != null && map.collidesWithTiles(collisionBox, newX, newY)) {
+            return;
+        }
+        
+        position.x = newX;
+        position.y = newY;
+    }
+
+    /**
+     * ★ NEW: Pick the monster's simulation level from the distance to the nearest
+     * player and tick it at that level. Time a monster skips is banked in
+     * AI.simDebt and replayed by catchUpMonster() before it runs again.
+     * @return true if the sprite should animate this tick
+     */
+    private boolean updateMonsterLOD(Entity monster, Position playerPos, float delta) {
+        AI ai = monster.getComponent(AI.class);
+        Position position = monster.getComponent(Position.class);
+        if (ai == null || position == null) {
+            updateMonster(monster, playerPos, delta);
+            return true;
+        }
+        
+        AI.SimLevel level = classifySimLevel(ai, position);
+        ai.simLevel = level;
+        simLevelCounts[level.ordinal()]++;
+        
+        switch (level) {
+            case FULL:
+                if (ai.simDebt > 0f) {
+                    catchUpMonster(monster, ai, position);
+                }
+                updateMonster(monster, playerPos, delta);
+                return true;
+                
+            case REDUCED:
+                ai.simDebt += delta;
+                if (ai.simDebt >= LOD_REDUCED_INTERVAL) {
+                    float step = LOD_REDUCED_INTERVAL;
+                    ai.simDebt -= step;
+                    if (ai.simDebt > 0f) {
+                        catchUpMonster(monster, ai, position);  // left over from dormancy
+                    }
+                    updateMonster(monster, playerPos, step);
+                }
+                return false;
+                
+            default:
+                // Killing blows still resolve so the monster gets its corpse timer and respawn
+                Stats stats = monster.getComponent(Stats.class);
+                if (stats != null && stats.hp <= 0 && !monster.hasComponent(Dead.class)) {
+                    updateMonster(monster, playerPos, delta);
+                } else {
+                    ai.simDebt += delta;
+                }
+                return false;
+        }
+    }
+    
+    private AI.SimLevel classifySimLevel(AI ai, Position position) {
+        float nearest = Float.MAX_VALUE;
+        for (int i = 0; i < playerPositions.size(); i++) {
+            Position p = playerPositions.get(i);
+            float dx = p.x - position.x;
+            float dy = p.y - position.y;
+            nearest = Math.min(nearest, dx * dx + dy * dy);
+        }
+        float dist = (float)Math.sqrt(nearest);
+        
+        // Demote only once past the boundary plus hysteresis
+        float fullLimit = LOD_FULL_RANGE + (ai.simLevel == AI.SimLevel.FULL ? LOD_HYSTERESIS : 0f);
+        float reducedLimit = LOD_REDUCED_RANGE + (ai.simLevel != AI.SimLevel.DORMANT ? LOD_HYSTERESIS : 0f);
+        
+        if (dist <= fullLimit) return AI.SimLevel.FULL;
+        if (dist <= reducedLimit) return AI.SimLevel.REDUCED;
+        return AI.SimLevel.DORMANT;
+    }
+    
+    /**
+     * ★ NEW: Replay banked time. AI timers live on the timer wheel and need no
+     * catch-up; a monster that was walking keeps walking its path in
+     * reduced-sized steps, so it is where it would have been had it been
+     * simulated all along.
+     */
+    private void catchUpMonster(Entity monster, AI ai, Position position) {
+        float debt = ai.simDebt;
+        ai.simDebt = 0f;
+        
+        Movement movement = monster.getComponent(Movement.class);
+        Path path = monster.getComponent(Path.class);
+        if (movement != null) {
+            int steps = 0;
+            while (debt > 0f && steps++ < LOD_MAX_CATCH_UP_STEPS &&
+                   (movement.isMoving || (path != null && path.isFollowing))) {
+                float step = Math.min(debt, LOD_REDUCED_INTERVAL);
+                if (movement.isMoving) {
+                    moveTowardsTarget(monster, movement, position, step);
+                }
+                if (path != null && path.isFollowing) {
+                    followPath(monster, path, movement, position, step);
+                }
+                debt -= step;
+            }
+        }
+        
+        position.snapTo(position.x, position.y);  // don't interpolate across the jump
+    }
+    
+    /**
+     * ★ NEW: Players every monster measures its LOD against (zones may hold several)
+     */
+    private void collectPlayerPositions() {
+        playerPositions.clear();
+        Arrays.fill(simLevelCounts, 0);
+        
+        // ★ UPDATED: Tracked by the entity list on add/remove - no full scan
+        List<Entity> players = state.getPlayers();
+        for (int i = 0, n = players.size(); i < n; i++) {
+            Position pos = players.get(i).getComponent(Position.class);
+            if (pos != null) {
+                playerPositions.add(pos);
+            }
+        }
+    }
+    
+    public PerceptionScheduler getPerceptionScheduler() {
+        return perception;
+    }
+    
+    public String getSimLevelStatsString() {
+        return String.format("Monster LOD: %d full, %d reduced, %d dormant",
+                             simLevelCounts[AI.SimLevel.FULL.ordinal()],
+                             simLevelCounts[AI.SimLevel.REDUCED.ordinal()],
+                             simLevelCounts[AI.SimLevel.DORMANT.ordinal()]);
+    }
 
     private void handleVictoryIdleState(Entity monster, AI ai, Movement movement, Sprite sprite, float delta) {
         if (sprite != null && movement != null) {
             sprite.setAnimation(getVictoryAnimationForDirection(movement.lastDirection));
         }
         
-        if (ai.victoryIdleTimer >= ai.victoryIdleDuration) {
+        if (ai.victoryIdleTimer.hasFired()) {
             Position monsterPos = monster.getComponent(Position.class);
             if (monsterPos != null) {
                 float distFromHome = distance(monsterPos.x, monsterPos.y, ai.homeX, ai.homeY);
@@ -773,15 +973,15 @@ public class GameLogic {
         
         switch(newState) {
             case IDLE:
-                ai.roamTimer = 0;
                 ai.roamInterval = ThreadLocalRandom.current().nextFloat(3f, 6f);
+                state.getTimers().schedule(ai.roamTimer, ai.roamInterval);
                 break;
             case VICTORY_IDLE:
-                ai.victoryIdleTimer = 0;
-                ai.target = null;
+                state.getTimers().schedule(ai.victoryIdleTimer, ai.victoryIdleDuration);
+                ai.clearTarget();
                 break;
             case RETURNING:
-                ai.target = null;
+                ai.clearTarget();
                 break;
         }
     }
@@ -812,7 +1012,8 @@ public class GameLogic {
     private void handleIdleState(Entity monster, AI ai, Movement movement, Sprite sprite, Position playerPos, float delta) {
         Position monsterPos = monster.getComponent(Position.class);
         
-        if (ai.behaviorType.equals("aggressive") && playerPos != null && monsterPos != null) {
+        if (ai.behaviorType.equals("aggressive") && playerPos != null && monsterPos != null
+                && perception.isDue(ai)) {
             Entity player = state.getPlayer();
             Stats playerStats = player.getComponent(Stats.class);
             
@@ -821,13 +1022,18 @@ public class GameLogic {
             if (playerStats != null && playerStats.hp > 0 && distFromHome <= ai.roamRadius * 1.5f) {
                 if (canDetectPlayer(monsterPos, playerPos, ai.detectionRange)) {
                     transitionAIState(monster, ai, AI.State.CHASING);
-                    ai.target = state.getPlayer();
+                    ai.setTarget(state.getPlayer());
                     return;
                 }
             }
         }
         
-        if (ai.roamTimer >= ai.roamInterval) {
+        // ★ NEW: Fresh spawns enter IDLE without a transition - arm the roam timer here
+        if (!ai.roamTimer.isPending() && !ai.roamTimer.hasFired()) {
+            state.getTimers().schedule(ai.roamTimer, ai.roamInterval);
+        }
+        
+        if (ai.roamTimer.hasFired()) {
             transitionAIState(monster, ai, AI.State.ROAMING);
         }
         
@@ -837,7 +1043,8 @@ public class GameLogic {
     }
 
     private void handleRoamingState(Entity monster, AI ai, Movement movement, Position position, Path path, Sprite sprite, Position playerPos, float delta) {
-        if (ai.behaviorType.equals("aggressive") && playerPos != null && position != null) {
+        if (ai.behaviorType.equals("aggressive") && playerPos != null && position != null
+                && perception.isDue(ai)) {
             Entity player = state.getPlayer();
             Stats playerStats = player.getComponent(Stats.class);
             
@@ -846,7 +1053,7 @@ public class GameLogic {
             if (playerStats != null && playerStats.hp > 0 && distFromHome <= ai.roamRadius * 1.5f) {
                 if (canDetectPlayer(position, playerPos, ai.detectionRange)) {
                     transitionAIState(monster, ai, AI.State.CHASING);
-                    ai.target = state.getPlayer();
+                    ai.setTarget(state.getPlayer());
                     return;
                 }
             }
@@ -1065,8 +1272,8 @@ public class GameLogic {
                 movement.lastDirection = movement.direction;
             }
             
-            combat.startAttack(player);
-            ai.resetAttackCooldown();
+            combat.startAttack(player, state.getTimers());
+            ai.resetAttackCooldown(state.getTimers());
             
             if (sprite != null && movement != null) {
                 sprite.setAnimation(getAttackAnimationForDirection(movement.lastDirection));
@@ -1084,8 +1291,11 @@ public class GameLogic {
 
     private boolean canDetectPlayer(Position monsterPos, Position playerPos, float detectionTiles) {
         float detectionDistance = detectionTiles * TileMap.TILE_SIZE;
-        float dist = distance(monsterPos.x, monsterPos.y, playerPos.x, playerPos.y);
-        return dist <= detectionDistance;
+        
+        // ★ UPDATED: Squared distance - one known player, so no sqrt and no hash query
+        float dx = playerPos.x - monsterPos.x;
+        float dy = playerPos.y - monsterPos.y;
+        return dx * dx + dy * dy <= detectionDistance * detectionDistance;
     }
     
     private float distance(float x1, float y1, float x2, float y2) {
@@ -1216,9 +1426,21 @@ public class GameLogic {
             position.y = movement.targetY;
             movement.stopMoving();
         } else {
-            float ratio = moveAmount / distance;
-            float newX = position.x + dx * ratio;
-            float newY = position.y + dy * ratio;
+            // ★ NEW: Velocity from the crowd layer for monsters, straight seek otherwise
+            if (entity.getType() == EntityType.MONSTER) {
+                Path path = entity.getComponent(Path.class);
+                boolean lastLeg = path == null || !path.isFollowing
+                               || path.currentWaypoint >= path.waypoints.size() - 1;
+                crowd.steer(entity, position, movement, dx, dy, distance, lastLeg);
+            } else {
+                movement.velocityX = dx / distance * movement.currentSpeed;
+                movement.velocityY = dy / distance * movement.currentSpeed;
+            }
+            
+            float stepX = movement.velocityX * delta;
+            float stepY = movement.velocityY * delta;
+            float newX = position.x + stepX;
+            float newY = position.y + stepY;
             
             CollisionBox collisionBox = entity.getComponent(CollisionBox.class);
             TileMap map = state.getMap();
@@ -1247,8 +1469,8 @@ public class GameLogic {
                     // ★ NEW: If still blocked, try smaller diagonal movements
                     if (!moved) {
                         // Try 50% movement on both axes
-                        float halfX = position.x + dx * ratio * 0.5f;
-                        float halfY = position.y + dy * ratio * 0.5f;
+                        float halfX = position.x + stepX * 0.5f;
+                        float halfY = position.y + stepY * 0.5f;
                         
                         if (!map.collidesWithTiles(collisionBox, halfX, halfY)) {
                             position.x = halfX;
@@ -1256,8 +1478,8 @@ public class GameLogic {
                             moved = true;
                         } else {
                             // Try 25% movement
-                            float quarterX = position.x + dx * ratio * 0.25f;
-                            float quarterY = position.y + dy * ratio * 0.25f;
+                            float quarterX = position.x + stepX * 0.25f;
+                            float quarterY = position.y + stepY * 0.25f;
                             
                             if (!map.collidesWithTiles(collisionBox, quarterX, quarterY)) {
                                 position.x = quarterX;
@@ -1338,6 +1560,8 @@ public class GameLogic {
     // ★ UPDATED: Update camera with lerp control
     private void updateCamera(float delta) {
         Entity player = state.getPlayer();
+        if (player == null) return;
+        
         Position playerPos = player.getComponent(Position.class);
         TileMap map = state.getMap();
         
@@ -1470,7 +1694,7 @@ public class GameLogic {
             return;
         }
         
-        if (!skill.use()) {
+        if (!skill.use(state.getTimers())) {
             return;
         }
         
@@ -1590,7 +1814,9 @@ public class GameLogic {
                 }
             }
             
-            state.getUIManager().notifyLevelUp();
+            if (state.getUIManager() != null) {
+                state.getUIManager().notifyLevelUp();
+            }
             
             System.out.println("╔═══════════════════════════════════");
             System.out.println("║        LEVEL UP!               ║");
@@ -1715,7 +1941,18 @@ public class GameLogic {
         
         state.onMonsterDeath(monster);
         
-        monster.addComponent(new Dead(1.5f));
+        Dead dead = new Dead(1.5f);
+        monster.addComponent(dead);
+        
+        // ★ NEW: Remove the corpse from a timer callback instead of counting down every tick.
+        // Resolved by handle, so a corpse already cleared (map change, pool reuse) is skipped.
+        int handle = monster.getHandle();
+        state.getTimers().schedule(dead.corpseLifetime, () -> {
+            Entity corpse = EntityHandles.get(handle);
+            if (corpse != null) {
+                state.markForRemoval(corpse);
+            }
+        });
         
         Movement movement = monster.getComponent(Movement.class);
         if (movement != null) {
@@ -1760,6 +1997,8 @@ public class GameLogic {
 
     private void addDropsToInventory(Entity player, List<DroppedItem> drops) {
         UIManager uiManager = state.getUIManager();
+        if (uiManager == null) return;  // headless: drops are rolled but not stored
+        
         UIScrollableInventoryPanel inventory = uiManager.getInventoryGrid();
         
         if (inventory == null) {
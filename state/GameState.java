@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Map;
 
 import dev.main.Engine;
+import dev.main.ai.AI;
+import dev.main.buffs.BuffManager;
 import dev.main.dialogue.DialogueDatabase;
 import dev.main.dialogue.DialogueExamples;
 import dev.main.drops.DropItem;
@@ -12,11 +14,17 @@ import dev.main.drops.DropRarity;
 import dev.main.drops.ZoneLootConfig;
 import dev.main.entity.Entity;
 import dev.main.entity.EntityFactory;
+import dev.main.entity.EntityList;
 import dev.main.entity.EntityType;
 import dev.main.entity.MobTier;
 import dev.main.entity.MonsterLevel;
+import dev.main.entity.MonsterPool;
 import dev.main.entity.NameTag;
 import dev.main.entity.Respawn;
+import dev.main.entity.CollisionBroadphase;
+import dev.main.entity.Combat;
+import dev.main.entity.RespawnScheduler;
+import dev.main.entity.SpatialHash;
 import dev.main.entity.SpawnPoint;
 import dev.main.input.Position;
 import dev.main.item.ItemManager;
@@ -27,9 +35,13 @@ import dev.main.tile.TileMap;
 import dev.main.ui.TransitionEffect;
 import dev.main.ui.UIManager;
 import dev.main.util.DamageText;
+import dev.main.util.TimerWheel;
 import dev.main.util.MapData;
 
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 public class GameState {
 	 
@@ -40,10 +52,16 @@ public class GameState {
     private float portalCooldown = 0f;
     private static final float PORTAL_COOLDOWN_TIME = 2.0f;
     
-    private List<Entity> entities;
-    private List<Entity> entitiesToRemove;
+    private EntityList entities;  // ★ NEW: Swap-remove container, deferred changes during ticks
+    private Set<Entity> entitiesToRemove;
+    private Map<Entity, Runnable> entitiesToHandOff;  // ★ NEW: Leave this zone but stay alive
     private List<DamageText> damageTexts;
     private List<SpawnPoint> spawnPoints;
+    private final MonsterPool monsterPool = new MonsterPool();  // ★ NEW: Reuse dead monsters on respawn
+    private final SpatialHash spatialHash = new SpatialHash();  // ★ NEW: Proximity queries
+    private final TimerWheel timers = new TimerWheel();  // ★ NEW: Cooldowns/expiries on the game clock
+    private final RespawnScheduler respawnScheduler = new RespawnScheduler();  // ★ NEW: Due respawns only
+    private final CollisionBroadphase broadphase = new CollisionBroadphase();  // ★ NEW: Contact events
     
     private Entity player;
     private Entity hoveredEntity;
@@ -53,8 +71,13 @@ public class GameState {
     
     private GameLogic gameLogic;
     
-    // UI
+    // UI (null when headless)
     private UIManager uiManager;
+    private final boolean headless;
+    
+    // ★ NEW: Zone mode - owning World (null for the single-map client)
+    private World world;
+    private final boolean createPlayer;
     
     // ★ NEW: Intro quest handler
     private IntroQuestHandler introQuestHandler;
@@ -66,10 +89,31 @@ public class GameState {
     private float gameTime;
     private float cameraX;
     private float cameraY;
+    private float prevCameraX;  // ★ NEW: Camera at the previous tick (render interpolation)
+    private float prevCameraY;
     
     public GameState() {
-        entities = new ArrayList<>();
-        entitiesToRemove = new ArrayList<>();
+        this(false);
+    }
+    
+    /**
+     * ★ NEW: headless = simulation only (server zones, soak tests).
+     * No UIManager is created; UI hooks in GameLogic become no-ops.
+     */
+    public GameState(boolean headless) {
+        this("mid_forest", headless, true);
+    }
+    
+    /**
+     * ★ NEW: One zone instance - its own map, entities, pathfinder and spawn points.
+     * Zones created without a player keep ticking their monsters until one is handed in.
+     */
+    public GameState(String mapId, boolean headless, boolean createPlayer) {
+        this.headless = headless;
+        this.createPlayer = createPlayer;
+        entities = new EntityList();
+        entitiesToRemove = new LinkedHashSet<>();
+        entitiesToHandOff = new LinkedHashMap<>();
         damageTexts = new ArrayList<>();
         spawnPoints = new ArrayList<>();
         
@@ -81,7 +125,7 @@ public class GameState {
         transitionEffect = new TransitionEffect();
         
         // ★ Load initial map
-        loadMap("mid_forest");
+        loadMap(mapId);
         /*
         // ★ OPTION 1: Load from JSON
         if(Engine.IDE == Engine.Eclipse) {
@@ -101,7 +145,9 @@ public class GameState {
         initializeWorld();
         
         // Create UI Manager (GameLogic will be set later)
-        uiManager = new UIManager(this);
+        if (!headless) {
+            uiManager = new UIManager(this);
+        }
         
         // ★ NEW: Initialize intro quest handler AFTER UIManager
         introQuestHandler = new IntroQuestHandler(this);
@@ -166,8 +212,9 @@ public class GameState {
         Entity player = getPlayer();
         Position playerPos = player.getComponent(Position.class);
         if (playerPos != null) {
-            playerPos.x = targetTileX * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f;
-            playerPos.y = targetTileY * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f;
+            playerPos.snapTo(targetTileX * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f,
+                             targetTileY * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f);
+            spatialHash.update(player);
         }
         //disable lerp
         snapCameraToPlayer();
@@ -193,6 +240,8 @@ public class GameState {
     // ★ NEW: Instantly snap camera to player (no lerp)
     private void snapCameraToPlayer() {
         Entity player = getPlayer();
+        if (player == null) return;
+        
         Position playerPos = player.getComponent(Position.class);
         TileMap map = getMap();
         
@@ -209,6 +258,8 @@ public class GameState {
             
             // Instant snap
             setCameraPosition(targetX, targetY);
+            prevCameraX = targetX;
+            prevCameraY = targetY;
             
             System.out.println("📹 Camera snapped to (" + (int)targetX + ", " + (int)targetY + ")");
         }
@@ -225,7 +276,16 @@ public class GameState {
         }
         
         entities.removeAll(toRemove);
+        for (Entity entity : toRemove) {
+            spatialHash.remove(entity);
+            entity.release();  // ★ NEW: Stale handles to old-map monsters stop resolving
+            if (entity.getType() == EntityType.MONSTER) {
+                monsterPool.recycle(entity);
+            }
+        }
+        System.out.println(monsterPool.getStatsString());
         spawnPoints.clear();
+        respawnScheduler.clear();
         damageTexts.clear();
         
         System.out.println("Cleared " + toRemove.size() + " entities from old map");
@@ -251,7 +311,9 @@ public class GameState {
      */
     public void setGameLogic(GameLogic gameLogic) {
         this.gameLogic = gameLogic;  // ★ ADD THIS
-        uiManager.setGameLogic(gameLogic);
+        if (uiManager != null) {
+            uiManager.setGameLogic(gameLogic);
+        }
         
         // ★ Also update zone loot config if it exists
         if (zoneLootConfig != null) {
@@ -262,9 +324,9 @@ public class GameState {
     
     private void initializeWorld() {
     	 // Only create player if it doesn't exist
-        if (player == null) {
+        if (player == null && createPlayer) {
             player = EntityFactory.createPlayer(11 * 64, 3 * 64);
-            entities.add(player);
+            addEntity(player);
         }
         
         // ★ Load portals from map data
@@ -277,7 +339,7 @@ public class GameState {
      // Add NPCs (map-specific)
         if ("mid_forest".equals(currentMapId)) {
             Entity fionne = EntityFactory.createFionne(14 * 64 - 32, 6 * 64 - 31);
-            entities.add(fionne);
+            addEntity(fionne);
         } 
         
         // ★ OR keep manual spawns (your choice)
@@ -404,7 +466,7 @@ public class GameState {
 	private void initMidForest() {
 		//NPC
 		Entity fionne = EntityFactory.createFionne(14 * 64 - 32, 6 * 64 - 31);
-        entities.add(fionne);
+        addEntity(fionne);
         // Add environment decorations (map-specific)
         //add boulder
         addBoulder(4 * 64 - 13,  3 * 64 - 18);
@@ -444,7 +506,7 @@ public class GameState {
                 portalData.targetY
             );
             
-            entities.add(portal);
+            addEntity(portal);
             
             System.out.println("  - " + portalData.id + " → " + portalData.targetMap + 
                              " (" + portalData.targetX + ", " + portalData.targetY + ")");
@@ -505,19 +567,19 @@ public class GameState {
     
     private void addFountain(float x, float y) {
         Entity fountain = EntityFactory.createFountain(x, y);
-        entities.add(fountain);
+        addEntity(fountain);
         System.out.println("Added fountain at (" + (int)x + ", " + (int)y + ")");
     }
 
     private void addBoulder(float x, float y) {
         Entity boulder = EntityFactory.createBoulder(x, y);
-        entities.add(boulder);
+        addEntity(boulder);
         System.out.println("Added boulder at (" + (int)x + ", " + (int)y + ")");
     }
 
     private void addTree(float x, float y, String orientation) {
         Entity tree = EntityFactory.createTree(x, y, orientation);
-        entities.add(tree);
+        addEntity(tree);
         System.out.println("Added tree at (" + (int)x + ", " + (int)y + ")");
     }
     
@@ -527,28 +589,33 @@ public class GameState {
         System.out.println("Added spawn point: " + sp);
     }
     
+    /**
+     * ★ UPDATED: Pops only the spawn points whose respawn is due
+     */
     public void updateSpawnPoints(float delta) {
-        for (SpawnPoint sp : spawnPoints) {
-            sp.update(delta);
-            
-            if (sp.canRespawn()) {
-                spawnMonsterAtPoint(sp);
-            }
+        double now = timers.now();
+        SpawnPoint sp;
+        while ((sp = respawnScheduler.pollDue(now)) != null) {
+            spawnMonsterAtPoint(sp);
         }
     }
     
     public void onMonsterDeath(Entity monster) {
         Respawn respawn = monster.getComponent(Respawn.class);
-        if (respawn != null) {
-            for (SpawnPoint sp : spawnPoints) {
-                if (sp.currentMonster == monster) {
-                    sp.onMonsterDeath();
-                    break;
-                }
-            }
+        if (respawn == null) return;
+        
+        // ★ NEW: Back-reference instead of searching every spawn point
+        SpawnPoint sp = respawn.spawnPoint;
+        if (sp != null && sp.currentMonster == monster) {
+            sp.onMonsterDeath();
+            respawnScheduler.schedule(sp, timers.now());
         }
     }
     
+    public MonsterPool getMonsterPool() {
+        return monsterPool;
+    }
+    
     public List<SpawnPoint> getSpawnPoints() {
         return spawnPoints;
     }
@@ -558,7 +625,8 @@ public class GameState {
             return;
         }
         
-        Entity monster = EntityFactory.createMonster(
+        // ★ NEW: Pooled - reuses a dead monster of the same type when one is available
+        Entity monster = monsterPool.acquire(
             spawnPoint.monsterType, 
             spawnPoint.x, 
             spawnPoint.y,
@@ -566,14 +634,25 @@ public class GameState {
             spawnPoint.tier
         );
         
-        monster.addComponent(new Respawn(
-            spawnPoint.monsterType, 
-            spawnPoint.x, 
-            spawnPoint.y, 
-            spawnPoint.respawnDelay
-        ));
+        Respawn respawn = monster.getComponent(Respawn.class);
+        if (respawn == null) {
+            respawn = new Respawn(
+                spawnPoint.monsterType, 
+                spawnPoint.x, 
+                spawnPoint.y, 
+                spawnPoint.respawnDelay
+            );
+            monster.addComponent(respawn);
+        } else {
+            respawn.monsterType = spawnPoint.monsterType;
+            respawn.spawnX = spawnPoint.x;
+            respawn.spawnY = spawnPoint.y;
+            respawn.respawnDelay = spawnPoint.respawnDelay;
+            respawn.reset();
+        }
+        respawn.spawnPoint = spawnPoint;
         
-        entities.add(monster);
+        addEntity(monster);
         spawnPoint.spawn(monster);
         
         MonsterLevel monsterLevel = monster.getComponent(MonsterLevel.class);
@@ -712,7 +791,7 @@ public class GameState {
     
     public void spawnMonster(String type, float x, float y, int level, MobTier tier) {
         Entity monster = EntityFactory.createMonster(type, x, y, level, tier);
-        entities.add(monster);
+        addEntity(monster);
         System.out.println("Spawned " + type + " Lv" + level + " " + tier + " at (" + x + ", " + y + ")");
     }
     
@@ -783,24 +862,72 @@ public class GameState {
         }
     }
     
+    /**
+     * ★ NEW: Add to the zone - entity list plus spatial hash
+     */
+    public void addEntity(Entity entity) {
+        entities.add(entity);
+        spatialHash.update(entity);
+    }
+    
     public void markForRemoval(Entity entity) {
-        if (!entitiesToRemove.contains(entity)) {
-            entitiesToRemove.add(entity);
-        }
+        entitiesToRemove.add(entity);  // set - O(1), duplicates ignored
     }
     
     public void removeMarkedEntities() {
         for (Entity entity : entitiesToRemove) {
             entities.remove(entity);
+            spatialHash.remove(entity);
+            entity.release();  // ★ NEW: Invalidate AI/Combat handles pointing at it
+            if (entity.getType() == EntityType.MONSTER) {
+                monsterPool.recycle(entity);
+            }
             System.out.println("Removed " + entity.getName());
         }
         entitiesToRemove.clear();
+        
+        // ★ NEW: Handed to another zone - drop from this list only, handle stays valid.
+        // The callback runs after removal so the target zone never sees it in two lists.
+        for (Map.Entry<Entity, Runnable> handOff : entitiesToHandOff.entrySet()) {
+            entities.remove(handOff.getKey());
+            spatialHash.remove(handOff.getKey());
+            detachTimers(handOff.getKey());  // our wheel must not keep them (see acceptEntity)
+            handOff.getValue().run();
+        }
+        entitiesToHandOff.clear();
     }
     
     public List<Entity> getEntities() {
         return entities;
     }
     
+    public EntityList getEntityList() {
+        return entities;
+    }
+    
+    /**
+     * ★ NEW: Every player in this zone, kept up to date by the entity list
+     */
+    public List<Entity> getPlayers() {
+        return entities.getPlayers();
+    }
+    
+    public SpatialHash getSpatialHash() {
+        return spatialHash;
+    }
+    
+    public TimerWheel getTimers() {
+        return timers;
+    }
+    
+    public RespawnScheduler getRespawnScheduler() {
+        return respawnScheduler;
+    }
+    
+    public CollisionBroadphase getBroadphase() {
+        return broadphase;
+    }
+    
     public Entity getPlayer() {
         return player;
     }
@@ -834,10 +961,128 @@ public class GameState {
         this.cameraY = y;
     }
     
+    // ★ NEW: Interpolated camera for frames drawn between ticks
+    public float getInterpolatedCameraX(float alpha) {
+        return prevCameraX + (cameraX - prevCameraX) * alpha;
+    }
+    
+    public float getInterpolatedCameraY(float alpha) {
+        return prevCameraY + (cameraY - prevCameraY) * alpha;
+    }
+    
+    public float getPrevCameraX() {
+        return prevCameraX;
+    }
+    
+    public float getPrevCameraY() {
+        return prevCameraY;
+    }
+    
+    /**
+     * ★ NEW: Called at the start of every tick, before anything moves.
+     * Renderer blends from these values to the end-of-tick ones.
+     */
+    public void savePreviousPositions() {
+        prevCameraX = cameraX;
+        prevCameraY = cameraY;
+        
+        for (Entity entity : entities) {
+            Position pos = entity.getComponent(Position.class);
+            if (pos != null) {
+                pos.savePrevious();
+            }
+        }
+    }
+    
     public UIManager getUIManager() {
         return uiManager;
     }
     
+    public boolean isHeadless() {
+        return headless;
+    }
+    
+    public World getWorld() {
+        return world;
+    }
+    
+    public void setWorld(World world) {
+        this.world = world;
+    }
+    
+    /**
+     * ★ NEW: Entity leaves this zone (portal hand-off). Removed at the end of the
+     * tick, then onRemoved runs (World uses it to deliver to the target zone).
+     */
+    public void handOffEntity(Entity entity, Runnable onRemoved) {
+        entitiesToHandOff.putIfAbsent(entity, onRemoved);
+        
+        if (entity == player) {
+            player = null;
+            hoveredEntity = null;
+            targetedEntity = null;
+            autoAttackTarget = null;
+        }
+    }
+    
+    /**
+     * ★ NEW: Entity arrives from another zone. Call on this zone's tick thread only.
+     */
+    public void acceptEntity(Entity entity, int targetTileX, int targetTileY) {
+        Position pos = entity.getComponent(Position.class);
+        if (pos != null) {
+            pos.snapTo(targetTileX * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f,
+                       targetTileY * TileMap.TILE_SIZE + TileMap.TILE_SIZE / 2f);
+        }
+        
+        addEntity(entity);
+        attachTimers(entity);  // cooldowns and buff expiries continue on our clock
+        
+        if (entity.getType() == EntityType.PLAYER) {
+            player = entity;
+            snapCameraToPlayer();
+            setPortalCooldown();  // don't bounce straight back through the arrival portal
+        }
+    }
+    
+    /**
+     * ★ NEW: Every wheel timer an entity carries with it (attack cooldowns,
+     * AI timers, buff expiries). Skill cooldowns live in this state's UI.
+     */
+    private static List<TimerWheel.Timer> collectTimers(Entity entity) {
+        List<TimerWheel.Timer> out = new ArrayList<>();
+        
+        Combat combat = entity.getComponent(Combat.class);
+        if (combat != null) {
+            out.add(combat.attackTimer);
+        }
+        AI ai = entity.getComponent(AI.class);
+        if (ai != null) {
+            out.add(ai.roamTimer);
+            out.add(ai.attackTimer);
+            out.add(ai.victoryIdleTimer);
+        }
+        BuffManager buffs = entity.getComponent(BuffManager.class);
+        if (buffs != null) {
+            buffs.collectTimers(out);
+        }
+        return out;
+    }
+    
+    // Source zone thread: take the entity's timers off our wheel, keeping the time left
+    private static void detachTimers(Entity entity) {
+        for (TimerWheel.Timer timer : collectTimers(entity)) {
+            timer.detach();
+        }
+    }
+    
+    // Target zone thread: resume them on our wheel
+    private void attachTimers(Entity entity) {
+        for (TimerWheel.Timer timer : collectTimers(entity)) {
+            timers.attach(timer);
+        }
+    }
+    
     // ★ NEW: Getter for intro quest handler
     public IntroQuestHandler getIntroQuestHandler() {
         return introQuestHandler;
@@ -0,0 +1,255 @@
+package dev.main.state;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import dev.main.entity.Entity;
+import dev.main.util.FramePacer;
+
+/**
+ * ★ NEW: Server-side world - many zones live at once.
+ *
+ * Every zone is a headless GameState + GameLogic with its own entities,
+ * pathfinder and spawn points, ticked by its own thread. Zones never touch
+ * each other's state; the only shared structure is each zone's inbox, a
+ * lock-free queue that portal hand-offs go through.
+ */
+public class World {
+
+    /**
+     * One live map instance
+     */
+    public static class Zone implements Runnable {
+
+        private static class Arrival {
+            final Entity entity;
+            final int tileX;
+            final int tileY;
+
+            Arrival(Entity entity, int tileX, int tileY) {
+                this.entity = entity;
+                this.tileX = tileX;
+                this.tileY = tileY;
+            }
+        }
+
+        private final String id;
+        private final GameState state;
+        private final GameLogic logic;
+        private final World world;
+        private final Queue<Arrival> inbox = new ConcurrentLinkedQueue<>();
+
+        private volatile long ticks = 0;
+        private volatile long busyNanos = 0;  // time spent inside ticks
+        private volatile Throwable failure;   // set if a tick threw; the zone stops
+
+        Zone(String id, World world) {
+            this.id = id;
+            this.world = world;
+            this.state = new GameState(id, true, false);
+            this.logic = new GameLogic(state);
+            state.setGameLogic(logic);
+            state.setWorld(world);
+        }
+
+        /**
+         * One tick: take in arrivals, then simulate. Zone thread only.
+         */
+        public void tick(float delta) {
+            long start = System.nanoTime();
+
+            Arrival arrival;
+            while ((arrival = inbox.poll()) != null) {
+                state.acceptEntity(arrival.entity, arrival.tileX, arrival.tileY);
+                System.out.println("[" + id + "] " + arrival.entity.getName() + " arrived");
+            }
+
+            logic.update(delta);
+
+            busyNanos += System.nanoTime() - start;
+            ticks++;
+        }
+
+        @Override
+        public void run() {
+            float delta = 1f / world.tickRate;
+            FramePacer pacer = new FramePacer(FramePacer.Mode.CAPPED, world.tickRate);
+
+            try {
+                while (world.isRunning) {
+                    tick(delta);
+                    pacer.sync();
+                }
+            } catch (Throwable t) {
+                // Nobody joins the zone threads - log it here or the zone just freezes
+                failure = t;
+                System.err.println("[" + id + "] zone stopped after " + ticks + " ticks: " + t);
+                t.printStackTrace();
+            }
+        }
+
+        /**
+         * Queue an entity for this zone. Safe from any thread.
+         */
+        void enqueue(Entity entity, int tileX, int tileY) {
+            inbox.offer(new Arrival(entity, tileX, tileY));
+        }
+
+        public String getId() { return id; }
+        public GameState getState() { return state; }
+        public long getTicks() { return ticks; }
+        public boolean hasFailed() { return failure != null; }
+        public Throwable getFailure() { return failure; }
+
+        // Average milliseconds per tick so far (load indicator)
+        public float getAverageTickMillis() {
+            long t = ticks;
+            return t == 0 ? 0f : (busyNanos / (float)t) / 1_000_000f;
+        }
+    }
+
+    private final Map<String, Zone> zones = new ConcurrentHashMap<>();
+    private final int tickRate;
+    private volatile boolean isRunning = false;
+    private ExecutorService executor;
+    private final AtomicLong handOffs = new AtomicLong();  // transfers delivered to a target inbox
+
+    public World(int tickRate) {
+        // Image loading still goes through java.awt.image; never open a display
+        System.setProperty("java.awt.headless", "true");
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Load a zone. Call before start().
+     */
+    public Zone addZone(String mapId) {
+        if (isRunning) {
+            throw new IllegalStateException("Cannot add zones while the world is running");
+        }
+        Zone zone = new Zone(mapId, this);
+        zones.put(mapId, zone);
+        System.out.println("World: zone loaded - " + mapId);
+        return zone;
+    }
+
+    /**
+     * Put a (player) entity into a zone at a tile. Safe from any thread.
+     */
+    public boolean spawnInto(String zoneId, Entity entity, int tileX, int tileY) {
+        Zone zone = zones.get(zoneId);
+        if (zone == null) {
+            System.err.println("World: unknown zone " + zoneId);
+            return false;
+        }
+        zone.enqueue(entity, tileX, tileY);
+        return true;
+    }
+
+    /**
+     * Portal hand-off, called on the source zone's thread. The entity is removed
+     * from the source at the end of its tick and added to the target at the
+     * start of the target's next tick - it is never in two zones at once.
+     * @return false if the target zone isn't loaded (caller falls back)
+     */
+    public boolean transfer(GameState from, Entity entity, String targetZoneId, int tileX, int tileY) {
+        Zone target = zones.get(targetZoneId);
+        if (target == null) {
+            return false;
+        }
+        from.handOffEntity(entity, () -> {
+            target.enqueue(entity, tileX, tileY);
+            handOffs.incrementAndGet();
+        });
+        return true;
+    }
+
+    /**
+     * Start one tick thread per zone
+     */
+    public void start() {
+        if (isRunning) return;
+        isRunning = true;
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(Math.max(1, zones.size()), r -> {
+            Thread t = new Thread(r, "Zone-" + threadIndex.getAndIncrement());
+            t.setDaemon(true);
+            return t;
+        });
+
+        for (Zone zone : zones.values()) {
+            executor.execute(zone);
+        }
+        System.out.println("World started: " + zones.size() + " zones @ " + tickRate + " ticks/s");
+    }
+
+    public void stop() {
+        if (!isRunning) return;
+        isRunning = false;
+
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(2, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("World stopped");
+    }
+
+    public Zone getZone(String id) {
+        return zones.get(id);
+    }
+
+    public Collection<Zone> getZones() {
+        return zones.values();
+    }
+
+    public long getHandOffCount() {
+        return handOffs.get();
+    }
+
+    /**
+     * Zones whose tick thread died (see Zone.getFailure)
+     */
+    public List<Zone> getFailedZones() {
+        List<Zone> failed = new ArrayList<>();
+        for (Zone zone : zones.values()) {
+            if (zone.hasFailed()) failed.add(zone);
+        }
+        return failed;
+    }
+
+    public String getStatsString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("World: %d zones, %d hand-offs", zones.size(), handOffs.get()));
+        for (String line : getStatsLines()) {
+            sb.append("\n  ").append(line);
+        }
+        return sb.toString();
+    }
+
+    public List<String> getStatsLines() {
+        List<String> lines = new ArrayList<>();
+        for (Zone zone : zones.values()) {
+            lines.add(String.format("%s: %d ticks, %.3fms/tick, %d entities%s",
+                                    zone.id, zone.ticks, zone.getAverageTickMillis(),
+                                    zone.state.getEntities().size(),
+                                    zone.hasFailed() ? " - STOPPED: " + zone.failure : ""));
+        }
+        return lines;
+    }
+}
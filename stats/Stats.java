@@ -101,6 +101,15 @@ public class Stats implements Component {
         this.curseResistance = 0;
     }
     
+    /**
+     * ★ NEW: Refill HP/stamina/mana (pooled monster respawn)
+     */
+    public void restoreFull() {
+        this.hp = this.maxHp;
+        this.stamina = getMaxStamina();
+        this.mana = this.maxMana;
+    }
+    
     public void setMaxStaminaBonus(float bonus) {
         if (this.maxStaminaBonus != bonus) {
             this.maxStaminaBonus = bonus;
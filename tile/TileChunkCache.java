@@ -0,0 +1,139 @@
+package dev.main.tile;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+
+/**
+ * ★ NEW: The map image split into CHUNK_TILES x CHUNK_TILES VolatileImages.
+ *
+ * One huge BufferedImage is too big for Java2D to cache in video memory, so
+ * every frame's map draw was a software blit of the whole screen. Chunks are
+ * small enough to live in VRAM; they are created the first time they come
+ * into view, re-copied from the map image whenever the surface is lost
+ * (mode switch, alt-tab, screensaver), and only chunks that intersect the
+ * camera are drawn. Render thread only.
+ */
+public class TileChunkCache {
+
+    public static final int CHUNK_TILES = 8;
+    public static final int CHUNK_SIZE = TileMap.TILE_SIZE * CHUNK_TILES;
+
+    private static final int MAX_RESTORE_ATTEMPTS = 3;
+
+    private final BufferedImage source;
+    private final int chunksX;
+    private final int chunksY;
+    private final VolatileImage[] chunks;
+
+    private int restoreCount = 0;
+
+    public TileChunkCache(BufferedImage source) {
+        this.source = source;
+        this.chunksX = (source.getWidth() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunksY = (source.getHeight() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        this.chunks = new VolatileImage[chunksX * chunksY];
+    }
+
+    /**
+     * Draw the part of the map under the screen rectangle whose top-left is
+     * at map pixel (originX, originY).
+     * @return false if accelerated surfaces aren't available (caller falls back)
+     */
+    public boolean render(Graphics2D g, int originX, int originY, int screenWidth, int screenHeight) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        if (gc == null) return false;
+
+        int minCx = Math.max(0, originX / CHUNK_SIZE);
+        int minCy = Math.max(0, originY / CHUNK_SIZE);
+        int maxCx = Math.min(chunksX - 1, (originX + screenWidth - 1) / CHUNK_SIZE);
+        int maxCy = Math.min(chunksY - 1, (originY + screenHeight - 1) / CHUNK_SIZE);
+
+        for (int cy = minCy; cy <= maxCy; cy++) {
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                int screenX = cx * CHUNK_SIZE - originX;
+                int screenY = cy * CHUNK_SIZE - originY;
+                if (!drawChunk(g, gc, cx, cy, screenX, screenY)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean drawChunk(Graphics2D g, GraphicsConfiguration gc, int cx, int cy, int screenX, int screenY) {
+        int index = cy * chunksX + cx;
+
+        // Standard VolatileImage loop: validate, draw, and retry if the
+        // contents were lost while we were drawing
+        for (int attempt = 0; attempt < MAX_RESTORE_ATTEMPTS; attempt++) {
+            VolatileImage chunk = chunks[index];
+
+            int status = chunk == null ? VolatileImage.IMAGE_INCOMPATIBLE : chunk.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (chunk != null) chunk.flush();
+                chunk = createChunk(gc, cx, cy);
+                if (chunk == null) return false;
+                chunks[index] = chunk;
+                paintChunk(chunk, cx, cy);
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                paintChunk(chunk, cx, cy);
+                restoreCount++;
+            }
+
+            g.drawImage(chunk, screenX, screenY, null);
+
+            if (!chunk.contentsLost()) return true;
+        }
+        // Still losing surfaces - draw straight from the map image this frame
+        drawFromSource(g, cx, cy, screenX, screenY);
+        return true;
+    }
+
+    private VolatileImage createChunk(GraphicsConfiguration gc, int cx, int cy) {
+        int w = Math.min(CHUNK_SIZE, source.getWidth() - cx * CHUNK_SIZE);
+        int h = Math.min(CHUNK_SIZE, source.getHeight() - cy * CHUNK_SIZE);
+        try {
+            return gc.createCompatibleVolatileImage(w, h, Transparency.OPAQUE);
+        } catch (UnsupportedOperationException | IllegalArgumentException e) {
+            System.err.println("TileChunkCache: VolatileImage unavailable - " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void paintChunk(VolatileImage chunk, int cx, int cy) {
+        Graphics2D cg = chunk.createGraphics();
+        int srcX = cx * CHUNK_SIZE;
+        int srcY = cy * CHUNK_SIZE;
+        int w = chunk.getWidth();
+        int h = chunk.getHeight();
+        cg.drawImage(source, 0, 0, w, h, srcX, srcY, srcX + w, srcY + h, null);
+        cg.dispose();
+    }
+
+    private void drawFromSource(Graphics2D g, int cx, int cy, int screenX, int screenY) {
+        int srcX = cx * CHUNK_SIZE;
+        int srcY = cy * CHUNK_SIZE;
+        int w = Math.min(CHUNK_SIZE, source.getWidth() - srcX);
+        int h = Math.min(CHUNK_SIZE, source.getHeight() - srcY);
+        g.drawImage(source, screenX, screenY, screenX + w, screenY + h, srcX, srcY, srcX + w, srcY + h, null);
+    }
+
+    /**
+     * Release all video memory; chunks are rebuilt on the next draw
+     */
+    public void flush() {
+        for (int i = 0; i < chunks.length; i++) {
+            if (chunks[i] != null) {
+                chunks[i].flush();
+                chunks[i] = null;
+            }
+        }
+    }
+
+    public int getRestoreCount() {
+        return restoreCount;
+    }
+}
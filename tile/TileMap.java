@@ -24,6 +24,13 @@ public class TileMap {
     
     // Map rendering
     private BufferedImage mapImage;  // NEW: Full rendered map image
+    private TileChunkCache chunkCache;  // ★ NEW: VRAM chunks of mapImage, built on first render
+    // ★ UPDATED: After a failure the chunk path is retried later (failures can be
+    // transient, e.g. a display mode switch); the wait doubles while it keeps failing
+    private static final long CHUNK_RETRY_MIN_NANOS = 2_000_000_000L;
+    private static final long CHUNK_RETRY_MAX_NANOS = 60_000_000_000L;
+    private long chunkRetryAt = 0L;       // System.nanoTime(); 0 = chunks usable
+    private long chunkRetryDelay = CHUNK_RETRY_MIN_NANOS;
     
     // Collision data
     private int[][] collisionMap;  // NEW: 0 = walkable, 1 = solid
@@ -154,6 +161,23 @@ public class TileMap {
         srcX = Math.max(0, Math.min(srcX, mapImage.getWidth() - Engine.WIDTH));
         srcY = Math.max(0, Math.min(srcY, mapImage.getHeight() - Engine.HEIGHT));
         
+        // ★ NEW: Accelerated path - only the chunks under the camera
+        long now = System.nanoTime();
+        if (chunkRetryAt == 0L || now - chunkRetryAt >= 0L) {
+            if (chunkCache == null) {
+                chunkCache = new TileChunkCache(mapImage);
+            }
+            if (chunkCache.render(g, srcX, srcY, Engine.WIDTH, Engine.HEIGHT)) {
+                chunkRetryAt = 0L;
+                chunkRetryDelay = CHUNK_RETRY_MIN_NANOS;
+                return;
+            }
+            // Don't retry every frame (e.g. no accelerated pipeline at all)
+            chunkRetryAt = now + chunkRetryDelay;
+            chunkRetryDelay = Math.min(chunkRetryDelay * 2, CHUNK_RETRY_MAX_NANOS);
+            chunkCache.flush();
+        }
+        
         // Draw the visible portion of the map
         g.drawImage(
             mapImage,
@@ -163,6 +187,37 @@ public class TileMap {
         );
     }
     
+    /**
+     * ★ NEW: One horizontal strip of the view (screen rows top..top+height)
+     * drawn at (0, 0) of g, straight from the map image - BandCompositor
+     * calls this from several threads at once, so no shared caches.
+     */
+    public void renderBand(Graphics2D g, float cameraX, float cameraY, int top, int height) {
+        if (mapImage == null) return;
+        
+        // Same view origin as render()
+        int srcX = Math.max(0, Math.min((int)cameraX, mapImage.getWidth() - Engine.WIDTH));
+        int srcY = Math.max(0, Math.min((int)cameraY, mapImage.getHeight() - Engine.HEIGHT)) + top;
+        
+        g.drawImage(
+            mapImage,
+            0, 0, Engine.WIDTH, height,
+            srcX, srcY, srcX + Engine.WIDTH, srcY + height,
+            null
+        );
+    }
+    
+    /**
+     * ★ NEW: Release the chunks' video memory now instead of at GC (the map
+     * was replaced). Render thread only; they are rebuilt if drawn again.
+     */
+    public void flushChunks() {
+        if (chunkCache != null) {
+            chunkCache.flush();
+            chunkCache = null;
+        }
+    }
+    
     public boolean isSolid(int tileX, int tileY) {
         // Out of bounds = solid
         if (tileX < 0 || tileX >= width || tileY < 0 || tileY >= height) {
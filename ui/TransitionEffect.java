@@ -106,31 +106,41 @@ public class TransitionEffect {
     public void render(Graphics2D g) {
         if (state == TransitionState.IDLE) return;
         
-        float alpha = 0f;
-        
+        renderOverlay(g, getOverlayAlpha());
+    }
+    
+    /**
+     * ★ NEW: Current black-overlay alpha (0 = invisible).
+     * Captured into render snapshots so the render thread never reads live state.
+     */
+    public float getOverlayAlpha() {
         switch (state) {
             case FADE_OUT:
                 // Fade from transparent to black
-                alpha = progress;
-                break;
+                return progress;
                 
             case LOADING:
                 // Fully black
-                alpha = 1.0f;
-                break;
+                return 1.0f;
                 
             case FADE_IN:
                 // Fade from black to transparent
-                alpha = 1.0f - progress;
-                break;
+                return 1.0f - progress;
                 
-            case IDLE:
-                return;
+            default:
+                return 0f;
         }
+    }
+    
+    /**
+     * ★ NEW: Draw a black overlay with the given alpha
+     */
+    public static void renderOverlay(Graphics2D g, float alpha) {
+        if (alpha <= 0f) return;
         
         // Draw black overlay with alpha
         AlphaComposite originalComposite = (AlphaComposite) g.getComposite();
-        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+        g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, Math.min(1f, alpha)));
         g.setColor(Color.BLACK);
         g.fillRect(0, 0, Engine.WIDTH, Engine.HEIGHT);
         g.setComposite(originalComposite);
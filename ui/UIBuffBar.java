@@ -1,6 +1,5 @@
 package dev.main.ui;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
@@ -10,6 +9,7 @@ import java.util.List;
 import dev.main.buffs.Buff;
 import dev.main.buffs.BuffManager;
 import dev.main.entity.Entity;
+import dev.main.render.Palette;
 import dev.main.state.GameState;
 
 /**
@@ -44,8 +44,8 @@ public class UIBuffBar extends UIComponent {
         this.gap = 4;
         this.maxIcons = 10;
         
-        this.borderColor = new Color(100, 100, 120);
-        this.durationBgColor = new Color(0, 0, 0, 180);
+        this.borderColor = Palette.color(100, 100, 120);
+        this.durationBgColor = Palette.color(0, 0, 0, 180);
         
         this.hoveredBuff = null;
         
@@ -102,16 +102,16 @@ public class UIBuffBar extends UIComponent {
         // Draw border (highlight if hovered)
         if (buff == hoveredBuff) {
             g.setColor(Color.WHITE);
-            g.setStroke(new BasicStroke(2f));
+            g.setStroke(Palette.stroke(2f));
         } else {
             g.setColor(borderColor);
-            g.setStroke(new BasicStroke(1f));
+            g.setStroke(Palette.stroke(1f));
         }
         g.drawRect(iconX, iconY, iconSize, iconSize);
         
         // Draw items letter (first letter of name)
         String letter = buff.getName().substring(0, 1).toUpperCase();
-        Font letterFont = new Font("Arial", Font.BOLD, 16);
+        Font letterFont = Palette.font("Arial", Font.BOLD, 16);
         g.setFont(letterFont);
         
         FontMetrics fm = g.getFontMetrics();
@@ -122,7 +122,7 @@ public class UIBuffBar extends UIComponent {
         int letterY = iconY + (iconSize + letterHeight / 2) / 2 - 2;
         
         // Letter shadow
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(Palette.color(0, 0, 0, 150));
         g.drawString(letter, letterX + 1, letterY + 1);
         
         // Letter
@@ -134,7 +134,7 @@ public class UIBuffBar extends UIComponent {
         
         // Draw hover effect
         if (buff == hoveredBuff) {
-            g.setColor(new Color(255, 255, 255, 30));
+            g.setColor(Palette.color(255, 255, 255, 30));
             g.fillRect(iconX, iconY, iconSize, iconSize);
         }
     }
@@ -147,17 +147,17 @@ public class UIBuffBar extends UIComponent {
         int fillWidth = (int)(iconSize * durationPercent);
         
         // Background
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(Palette.color(0, 0, 0, 200));
         g.fillRect(iconX, barY, iconSize, barHeight);
         
         // Fill - color changes based on remaining time
         Color fillColor;
         if (durationPercent > 0.5f) {
-            fillColor = new Color(100, 200, 100);  // Green
+            fillColor = Palette.color(100, 200, 100);  // Green
         } else if (durationPercent > 0.25f) {
-            fillColor = new Color(255, 200, 0);    // Yellow
+            fillColor = Palette.color(255, 200, 0);    // Yellow
         } else {
-            fillColor = new Color(255, 100, 100);  // Red
+            fillColor = Palette.color(255, 100, 100);  // Red
         }
         
         g.setColor(fillColor);
@@ -203,7 +203,7 @@ public class UIBuffBar extends UIComponent {
         int indicatorY = y + 2;
         
         String text = "+" + extraCount;
-        Font font = new Font("Arial", Font.BOLD, 10);
+        Font font = Palette.font("Arial", Font.BOLD, 10);
         g.setFont(font);
         
         FontMetrics fm = g.getFontMetrics();
@@ -211,11 +211,11 @@ public class UIBuffBar extends UIComponent {
         int textHeight = fm.getHeight();
         
         // Background
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(Palette.color(0, 0, 0, 200));
         g.fillRoundRect(indicatorX, indicatorY, textWidth + 6, textHeight + 2, 4, 4);
         
         // Text
-        g.setColor(new Color(255, 215, 0));
+        g.setColor(Palette.color(255, 215, 0));
         g.drawString(text, indicatorX + 3, indicatorY + textHeight - 2);
     }
     
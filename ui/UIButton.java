@@ -4,6 +4,7 @@ import java.awt.Font;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
+import dev.main.render.Palette;
 import dev.main.sprite.TextureManager;
 
 import java.awt.Color;
@@ -89,6 +90,7 @@ public class UIButton extends UIComponent {
         if (lockedPath != null) {
             iconLocked = TextureManager.load(lockedPath);
         }
+        invalidate();
     }
     
     /**
@@ -116,6 +118,7 @@ public class UIButton extends UIComponent {
         this.notificationType = type;
         this.notificationText = text;
         this.notificationPulse = 0f;
+        invalidate();
     }
     
     /**
@@ -132,6 +135,7 @@ public class UIButton extends UIComponent {
         this.notificationType = NotificationType.NONE;
         this.notificationText = null;
         this.wasJustUnlocked = false;
+        invalidate();
     }
     
     /**
@@ -208,18 +212,18 @@ public class UIButton extends UIComponent {
         } else {
             // Fallback: draw colored rectangle if no items
             if (locked) {
-                g.setColor(new java.awt.Color(80, 80, 80, 120));
+                g.setColor(Palette.color(80, 80, 80, 120));
             } else if (hovered) {
-                g.setColor(new java.awt.Color(150, 150, 150, 220));
+                g.setColor(Palette.color(150, 150, 150, 220));
             } else {
-                g.setColor(new java.awt.Color(100, 100, 100, 200));
+                g.setColor(Palette.color(100, 100, 100, 200));
             }
             g.fillRect(x, y, width, height);
             
             // Draw label
             Font originalFont = g.getFont();
             g.setFont(LABEL_FONT);
-            g.setColor(locked ? new java.awt.Color(150, 150, 150) : java.awt.Color.WHITE);
+            g.setColor(locked ? Palette.color(150, 150, 150) : java.awt.Color.WHITE);
             g.drawString(label, x + 5, y + height / 2 + 5);
             g.setFont(originalFont);
         }
@@ -278,13 +282,13 @@ public class UIButton extends UIComponent {
         
         // Pulsing background
         float alpha = 0.8f + (float)Math.sin(notificationPulse) * 0.2f;
-        Color bgColor = new Color(0, 200, 0, (int)(alpha * 255));
+        Color bgColor = Palette.color(0, 200, 0, (int)(alpha * 255));
         
         g.setColor(bgColor);
         g.fillRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 4, 4);
         
         // Border
-        g.setColor(new Color(0, 255, 0));
+        g.setColor(Palette.color(0, 255, 0));
         g.drawRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 4, 4);
         
         // Text
@@ -308,11 +312,11 @@ public class UIButton extends UIComponent {
         int indicatorY = y + 4;
         
         // Background circle
-        g.setColor(new Color(255, 0, 0, 220));
+        g.setColor(Palette.color(255, 0, 0, 220));
         g.fillOval(indicatorX, indicatorY, size, size);
         
         // Border
-        g.setColor(new Color(255, 100, 100));
+        g.setColor(Palette.color(255, 100, 100));
         g.drawOval(indicatorX, indicatorY, size, size);
         
         // "!" text
@@ -340,11 +344,11 @@ public class UIButton extends UIComponent {
         int indicatorY = y + 4;
         
         // Background circle
-        g.setColor(new Color(255, 200, 0, 220));
+        g.setColor(Palette.color(255, 200, 0, 220));
         g.fillOval(indicatorX, indicatorY, size, size);
         
         // Border
-        g.setColor(new Color(255, 220, 100));
+        g.setColor(Palette.color(255, 220, 100));
         g.drawOval(indicatorX, indicatorY, size, size);
         
         // "?" text
@@ -376,11 +380,11 @@ public class UIButton extends UIComponent {
         int badgeY = y + 2;
         
         // Background
-        g.setColor(new Color(255, 100, 100, 220));
+        g.setColor(Palette.color(255, 100, 100, 220));
         g.fillRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 8, 8);
         
         // Border
-        g.setColor(new Color(255, 150, 150));
+        g.setColor(Palette.color(255, 150, 150));
         g.drawRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 8, 8);
         
         // Text
@@ -399,14 +403,14 @@ public class UIButton extends UIComponent {
         int lockY = y + 2;
         
         // Draw lock body
-        g.setColor(new java.awt.Color(200, 200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200, 200));
         g.fillRect(lockX + 2, lockY + 6, lockSize - 4, lockSize - 8);
         
         // Draw lock shackle
         g.drawArc(lockX + 3, lockY, lockSize - 6, lockSize - 4, 0, 180);
         
         // Draw keyhole
-        g.setColor(new java.awt.Color(80, 80, 80, 200));
+        g.setColor(Palette.color(80, 80, 80, 200));
         int keyholeX = lockX + lockSize / 2 - 1;
         int keyholeY = lockY + lockSize / 2;
         g.fillOval(keyholeX, keyholeY, 2, 2);
@@ -416,6 +420,12 @@ public class UIButton extends UIComponent {
     // UPDATE & INTERACTION
     // ═══════════════════════════════════════════════════════════════
     
+    // ★ NEW: Notification badges pulse every frame
+    @Override
+    public boolean isAnimating() {
+        return notificationType != NotificationType.NONE;
+    }
+    
     @Override
     public void update(float delta) {
         // Animate notification pulse
@@ -455,6 +465,7 @@ public class UIButton extends UIComponent {
     public void setLocked(boolean locked) {
         this.locked = locked;
         this.enabled = !locked;
+        invalidate();
     }
     
     /**
@@ -510,6 +521,7 @@ public class UIButton extends UIComponent {
 
     public void setLabel(String newLabel) {
         this.label = newLabel;
+        invalidate();
     }
     
     public NotificationType getNotificationType() {
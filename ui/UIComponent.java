@@ -26,6 +26,10 @@ public abstract class UIComponent {
     private int lastBoundsWidth = -1;
     private int lastBoundsHeight = -1;
     
+    // ★ NEW: Retained rendering - see UIPanel.setRetained()
+    private boolean repaintNeeded = true;
+    private boolean paintedAnimating = false;
+    
     public UIComponent(int x, int y, int width, int height) {
         this.x = x;
         this.y = y;
@@ -39,6 +43,39 @@ public abstract class UIComponent {
     public abstract void render(Graphics2D g);
     public abstract void update(float delta);
     
+    // ════════════════════════════════════════════════════════════════
+    // ★ NEW: DIRTY TRACKING (polled by retained panels)
+    // ════════════════════════════════════════════════════════════════
+    
+    /**
+     * Mark the painted look as stale - call from any setter that changes it
+     */
+    public void invalidate() {
+        repaintNeeded = true;
+    }
+    
+    /**
+     * True while the look changes every frame (pulses, cooldown sweeps, fades)
+     */
+    public boolean isAnimating() {
+        return false;
+    }
+    
+    /**
+     * Invalidated, animating, or an animation ended since the last paint
+     */
+    public boolean needsRepaint() {
+        return repaintNeeded || paintedAnimating || isAnimating();
+    }
+    
+    /**
+     * Called by a retained panel right after painting this component
+     */
+    public void markPainted() {
+        repaintNeeded = false;
+        paintedAnimating = isAnimating();
+    }
+    
     public void setMargin(int top, int right, int bottom, int left) {
         this.marginTop = top;
         this.marginRight = right;
@@ -100,10 +137,12 @@ public abstract class UIComponent {
     
     public void onMouseEnter() {
         hovered = true;
+        invalidate();
     }
     
     public void onMouseExit() {
         hovered = false;
+        invalidate();
     }
     
     public boolean onClick() {
@@ -128,19 +167,21 @@ public abstract class UIComponent {
         this.x = x;
         this.y = y;
         cachedBounds = null;  // ⭐ Invalidate cache
+        invalidate();
     }
     
     public void setSize(int width, int height) {
         this.width = width;
         this.height = height;
         cachedBounds = null;  // ⭐ Invalidate cache
+        invalidate();
     }
     
     public boolean isVisible() { return visible; }
-    public void setVisible(boolean visible) { this.visible = visible; }
+    public void setVisible(boolean visible) { this.visible = visible; invalidate(); }
     
     public boolean isEnabled() { return enabled; }
-    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; invalidate(); }
     
     public boolean isHovered() { return hovered; }
     
@@ -7,6 +7,8 @@ import java.awt.Graphics2D;
 import java.util.ArrayList;
 import java.util.List;
 
+import dev.main.render.Palette;
+
 /**
  * Dialogue box for NPC conversations and quest acceptance
  */
@@ -52,10 +54,10 @@ public class UIDialogueBox extends UIComponent {
         this.dialogueText = "";
         this.offeredQuest = null;
         
-        this.backgroundColor = new Color(20, 20, 30, 240);
-        this.borderColor = new Color(150, 150, 180);
-        this.npcNameColor = new Color(255, 215, 0);
-        this.textColor = new Color(220, 220, 220);
+        this.backgroundColor = Palette.color(20, 20, 30, 240);
+        this.borderColor = Palette.color(150, 150, 180);
+        this.npcNameColor = Palette.color(255, 215, 0);
+        this.textColor = Palette.color(220, 220, 220);
         
         this.padding = 16;
         this.textAreaHeight = height - 100;  // Leave room for buttons
@@ -240,7 +242,7 @@ public class UIDialogueBox extends UIComponent {
         
         // Draw border
         g.setColor(borderColor);
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(x, y, width, height);
         
         // Draw NPC name
@@ -250,7 +252,7 @@ public class UIDialogueBox extends UIComponent {
         g.drawString(npcName, x + padding, y + padding + 20);
         
         // Draw separator line
-        g.setColor(new Color(100, 100, 120));
+        g.setColor(Palette.color(100, 100, 120));
         g.drawLine(x + padding, y + padding + 30, x + width - padding, y + padding + 30);
         
         // Draw dialogue text
@@ -279,14 +281,14 @@ public class UIDialogueBox extends UIComponent {
         
         // Quest name
         g.setFont(QUEST_TITLE_FONT);
-        g.setColor(new Color(255, 215, 0));
+        g.setColor(Palette.color(255, 215, 0));
         g.drawString("Quest: " + offeredQuest.getName(), x + padding, questInfoY);
         
         questInfoY += 25;
         
         // Objectives
         g.setFont(QUEST_DESC_FONT);
-        g.setColor(new Color(200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200));
         g.drawString("Objectives:", x + padding, questInfoY);
         questInfoY += 18;
         
@@ -301,11 +303,11 @@ public class UIDialogueBox extends UIComponent {
         questInfoY += 10;
         
         // Rewards
-        g.setColor(new Color(200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200));
         g.drawString("Rewards:", x + padding, questInfoY);
         questInfoY += 18;
         
-        g.setColor(new Color(100, 255, 100));
+        g.setColor(Palette.color(100, 255, 100));
         if (offeredQuest.getExpReward() > 0) {
             g.drawString("• " + offeredQuest.getExpReward() + " XP", x + padding + 10, questInfoY);
             questInfoY += 16;
@@ -14,6 +14,7 @@ import dev.main.dialogue.DialogueNode;
 import dev.main.entity.Entity;
 import dev.main.entity.NPC;
 import dev.main.quest.QuestLog;
+import dev.main.render.Palette;
 
 /**
  * Enhanced dialogue box with support for branching dialogue trees
@@ -68,11 +69,11 @@ public class UIDialogueBoxEnhanced extends UIComponent {
         
         this.choiceButtons = new ArrayList<>();
         
-        this.backgroundColor = new Color(20, 20, 30, 240);
-        this.borderColor = new Color(150, 150, 180);
-        this.npcNameColor = new Color(255, 215, 0);
-        this.textColor = new Color(220, 220, 220);
-        this.choiceHoverColor = new Color(80, 100, 120, 200);
+        this.backgroundColor = Palette.color(20, 20, 30, 240);
+        this.borderColor = Palette.color(150, 150, 180);
+        this.npcNameColor = Palette.color(255, 215, 0);
+        this.textColor = Palette.color(220, 220, 220);
+        this.choiceHoverColor = Palette.color(80, 100, 120, 200);
         
         this.padding = 16;
         
@@ -391,7 +392,7 @@ public class UIDialogueBoxEnhanced extends UIComponent {
         
         // Draw border
         g.setColor(borderColor);
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(x, y, width, height);
         
         // Draw NPC name
@@ -401,7 +402,7 @@ public class UIDialogueBoxEnhanced extends UIComponent {
         g.drawString(npcName, x + padding, y + padding + 20);
         
         // Draw separator
-        g.setColor(new Color(100, 100, 120));
+        g.setColor(Palette.color(100, 100, 120));
         g.drawLine(x + padding, y + padding + 30, x + width - padding, y + padding + 30);
         
         // Draw dialogue text
@@ -530,13 +531,13 @@ public class UIDialogueBoxEnhanced extends UIComponent {
             if (hovered) {
                 g.setColor(choiceHoverColor);
             } else {
-                g.setColor(new Color(40, 40, 50, 200));
+                g.setColor(Palette.color(40, 40, 50, 200));
             }
             g.fillRect(x, y, width, height);
             
             // Border
-            g.setColor(new Color(100, 100, 120));
-            g.setStroke(new java.awt.BasicStroke(1));
+            g.setColor(Palette.color(100, 100, 120));
+            g.setStroke(Palette.stroke(1));
             g.drawRect(x, y, width, height);
             
             // Text
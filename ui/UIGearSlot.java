@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import dev.main.item.Item;
+import dev.main.render.Palette;
 
 import java.awt.Color;
 import java.awt.Font;
@@ -50,9 +51,9 @@ public class UIGearSlot extends UIComponent {
         this.item = null;
         
         // Colors
-        this.emptyColor = new Color(60, 60, 60, 180);
-        this.hoverColor = new Color(100, 100, 100, 200);
-        this.fillColor = new Color(80, 100, 120, 200);
+        this.emptyColor = Palette.color(60, 60, 60, 180);
+        this.hoverColor = Palette.color(100, 100, 100, 200);
+        this.fillColor = Palette.color(80, 100, 120, 200);
     }
     
     @Override
@@ -72,8 +73,8 @@ public class UIGearSlot extends UIComponent {
         g.fillRect(x, y, width, height);
         
         // Draw border
-        g.setColor(hovered ? Color.WHITE : new Color(100, 100, 100));
-        g.setStroke(new java.awt.BasicStroke(1f));
+        g.setColor(hovered ? Color.WHITE : Palette.color(100, 100, 100));
+        g.setStroke(Palette.stroke(1f));
         g.drawRect(x, y, width, height);
         
         // Draw slot label (only if empty or on hover)
@@ -88,7 +89,7 @@ public class UIGearSlot extends UIComponent {
         
         // Draw hover effect
         if (hovered) {
-            g.setColor(new Color(255, 255, 255, 30));
+            g.setColor(Palette.color(255, 255, 255, 30));
             g.fillRect(x, y, width, height);
         }
     }
@@ -109,11 +110,11 @@ public class UIGearSlot extends UIComponent {
         int textY = y + (height + textHeight / 2) / 2 - 2;
         
         // Shadow
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(Palette.color(0, 0, 0, 150));
         g.drawString(label, textX + 1, textY + 1);
         
         // Text
-        g.setColor(new Color(200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200));
         g.drawString(label, textX, textY);
         
         g.setFont(originalFont);
@@ -187,7 +188,7 @@ public class UIGearSlot extends UIComponent {
         
         // Draw border
         g.setColor(rarityColor.brighter());
-        g.setStroke(new java.awt.BasicStroke(2f));
+        g.setStroke(Palette.stroke(2f));
         g.drawRect(x, y, size, size);
         
         // Draw first letter of item name
@@ -202,9 +203,8 @@ public class UIGearSlot extends UIComponent {
      */
     private void drawRarityBorder(Graphics2D g, int x, int y, int size) {
         Color rarityColor = getRarityColor(item.getRarity());
-        g.setColor(new Color(rarityColor.getRed(), rarityColor.getGreen(), 
-                            rarityColor.getBlue(), 180));
-        g.setStroke(new java.awt.BasicStroke(2f));
+        g.setColor(Palette.withAlpha(rarityColor, 180));
+        g.setStroke(Palette.stroke(2f));
         g.drawRect(x - 1, y - 1, size + 2, size + 2);
     }
     
@@ -214,17 +214,17 @@ public class UIGearSlot extends UIComponent {
     private Color getRarityColor(Item.Rarity rarity) {
         switch (rarity) {
             case COMMON:
-                return new Color(180, 180, 180);  // Gray
+                return Palette.color(180, 180, 180);  // Gray
             case UNCOMMON:
-                return new Color(100, 200, 100);  // Green
+                return Palette.color(100, 200, 100);  // Green
             case RARE:
-                return new Color(80, 120, 220);   // Blue
+                return Palette.color(80, 120, 220);   // Blue
             case EPIC:
-                return new Color(160, 80, 220);   // Purple
+                return Palette.color(160, 80, 220);   // Purple
             case LEGENDARY:
-                return new Color(255, 165, 0);    // Orange/Gold
+                return Palette.color(255, 165, 0);    // Orange/Gold
             default:
-                return new Color(150, 150, 150);
+                return Palette.color(150, 150, 150);
         }
     }
     
@@ -239,7 +239,7 @@ public class UIGearSlot extends UIComponent {
         String initial = item.getName().substring(0, 1).toUpperCase();
         
         Font originalFont = g.getFont();
-        g.setFont(new Font("Arial", Font.BOLD, size / 2));
+        g.setFont(Palette.font("Arial", Font.BOLD, size / 2));
         
         FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(initial);
@@ -249,7 +249,7 @@ public class UIGearSlot extends UIComponent {
         int textY = y + (size + textHeight) / 2 - 2;
         
         // Shadow
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(Palette.color(0, 0, 0, 200));
         g.drawString(initial, textX + 2, textY + 2);
         
         // Text
@@ -287,6 +287,7 @@ public class UIGearSlot extends UIComponent {
     public Item equipItem(Item item) {
         Item oldItem = this.item;
         this.item = item;
+        invalidate();
         
         if (item != null) {
             System.out.println("✅ Equipped " + item.getName() + " in " + slotType + " slot");
@@ -298,6 +299,7 @@ public class UIGearSlot extends UIComponent {
     public Item unequipItem() {
         Item oldItem = this.item;
         this.item = null;
+        invalidate();
         
         if (oldItem != null) {
             System.out.println("⬇️ Unequipped " + oldItem.getName() + " from " + slotType + " slot");
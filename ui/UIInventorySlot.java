@@ -4,6 +4,7 @@ import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
 import dev.main.item.Item;
+import dev.main.render.Palette;
 
 import java.awt.Color;
 import java.awt.Font;
@@ -43,9 +44,9 @@ public class UIInventorySlot extends UIComponent {
         this.item = null;
         
         // Colors similar to locked menu buttons
-        this.emptyColor = new Color(60, 60, 60, 180);
-        this.hoverColor = new Color(100, 100, 100, 200);
-        this.fillColor = new Color(80, 80, 120, 200);
+        this.emptyColor = Palette.color(60, 60, 60, 180);
+        this.hoverColor = Palette.color(100, 100, 100, 200);
+        this.fillColor = Palette.color(80, 80, 120, 200);
         
         // ★ NEW: Initialize notification
         this.isNewItem = false;
@@ -70,8 +71,8 @@ public class UIInventorySlot extends UIComponent {
         g.fillRect(x, y, width, height);
         
         // Draw border
-        g.setColor(hovered ? Color.WHITE : new Color(100, 100, 100));
-        g.setStroke(new java.awt.BasicStroke(1f));
+        g.setColor(hovered ? Color.WHITE : Palette.color(100, 100, 100));
+        g.setStroke(Palette.stroke(1f));
         g.drawRect(x, y, width, height);
         
         // If empty, draw empty slot indicator (grid pattern)
@@ -84,7 +85,7 @@ public class UIInventorySlot extends UIComponent {
         
         // Draw hover effect
         if (hovered) {
-            g.setColor(new Color(255, 255, 255, 30));
+            g.setColor(Palette.color(255, 255, 255, 30));
             g.fillRect(x, y, width, height);
         }
         
@@ -96,7 +97,7 @@ public class UIInventorySlot extends UIComponent {
         // Draw stack count if stackable
         if (item != null && item.isStackable() && stackCount > 1) {
             Font originalFont = g.getFont();
-            g.setFont(new Font("Arial", Font.BOLD, 12));
+            g.setFont(Palette.font("Arial", Font.BOLD, 12));
             
             String countText = String.valueOf(stackCount);
             FontMetrics fm = g.getFontMetrics();
@@ -140,17 +141,17 @@ public class UIInventorySlot extends UIComponent {
         float finalAlpha = fadeAlpha * pulseAlpha;
         
         // Background
-        Color bgColor = new Color(0, 200, 0, (int)(finalAlpha * 220));
+        Color bgColor = Palette.color(0, 200, 0, (int)(finalAlpha * 220));
         g.setColor(bgColor);
         g.fillRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 3, 3);
         
         // Border
-        Color borderColor = new Color(0, 255, 0, (int)(finalAlpha * 255));
+        Color borderColor = Palette.color(0, 255, 0, (int)(finalAlpha * 255));
         g.setColor(borderColor);
         g.drawRoundRect(badgeX, badgeY, badgeWidth, badgeHeight, 3, 3);
         
         // Text
-        g.setColor(new Color(255, 255, 255, (int)(finalAlpha * 255)));
+        g.setColor(Palette.color(255, 255, 255, (int)(finalAlpha * 255)));
         int textX = badgeX + 3;
         int textY = badgeY + textHeight - 1;
         g.drawString(text, textX, textY);
@@ -162,7 +163,7 @@ public class UIInventorySlot extends UIComponent {
      * Draw empty slot pattern (subtle grid/cross)
      */
     private void drawEmptySlotPattern(Graphics2D g) {
-        g.setColor(new Color(80, 80, 80, 100));
+        g.setColor(Palette.color(80, 80, 80, 100));
         
         int centerX = x + width / 2;
         int centerY = y + height / 2;
@@ -241,7 +242,7 @@ public class UIInventorySlot extends UIComponent {
         
         // Draw border
         g.setColor(rarityColor.brighter());
-        g.setStroke(new java.awt.BasicStroke(2f));
+        g.setStroke(Palette.stroke(2f));
         g.drawRect(x, y, size, size);
         
         // Draw first letter of item name
@@ -256,9 +257,8 @@ public class UIInventorySlot extends UIComponent {
      */
     private void drawRarityBorder(Graphics2D g, int x, int y, int size) {
         Color rarityColor = getRarityColor(item.getRarity());
-        g.setColor(new Color(rarityColor.getRed(), rarityColor.getGreen(), 
-                            rarityColor.getBlue(), 180));
-        g.setStroke(new java.awt.BasicStroke(2f));
+        g.setColor(Palette.withAlpha(rarityColor, 180));
+        g.setStroke(Palette.stroke(2f));
         g.drawRect(x - 1, y - 1, size + 2, size + 2);
     }
     
@@ -268,17 +268,17 @@ public class UIInventorySlot extends UIComponent {
     private Color getRarityColor(Item.Rarity rarity) {
         switch (rarity) {
             case COMMON:
-                return new Color(180, 180, 180);  // Gray
+                return Palette.color(180, 180, 180);  // Gray
             case UNCOMMON:
-                return new Color(100, 200, 100);  // Green
+                return Palette.color(100, 200, 100);  // Green
             case RARE:
-                return new Color(80, 120, 220);   // Blue
+                return Palette.color(80, 120, 220);   // Blue
             case EPIC:
-                return new Color(160, 80, 220);   // Purple
+                return Palette.color(160, 80, 220);   // Purple
             case LEGENDARY:
-                return new Color(255, 165, 0);    // Orange/Gold
+                return Palette.color(255, 165, 0);    // Orange/Gold
             default:
-                return new Color(150, 150, 150);
+                return Palette.color(150, 150, 150);
         }
     }
     
@@ -293,7 +293,7 @@ public class UIInventorySlot extends UIComponent {
         String initial = item.getName().substring(0, 1).toUpperCase();
         
         Font originalFont = g.getFont();
-        g.setFont(new Font("Arial", Font.BOLD, size / 2));
+        g.setFont(Palette.font("Arial", Font.BOLD, size / 2));
         
         FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(initial);
@@ -303,7 +303,7 @@ public class UIInventorySlot extends UIComponent {
         int textY = y + (size + textHeight) / 2 - 2;
         
         // Shadow
-        g.setColor(new Color(0, 0, 0, 200));
+        g.setColor(Palette.color(0, 0, 0, 200));
         g.drawString(initial, textX + 2, textY + 2);
         
         // Text
@@ -313,6 +313,12 @@ public class UIInventorySlot extends UIComponent {
         g.setFont(originalFont);
     }
     
+    // ★ NEW: The "NEW" badge pulses until it times out
+    @Override
+    public boolean isAnimating() {
+        return isNewItem;
+    }
+    
     @Override
     public void update(float delta) {
         // ★ NEW: Update "NEW" badge timer
@@ -394,6 +400,7 @@ public class UIInventorySlot extends UIComponent {
     public void setItem(Item item) {
         this.item = item;
         this.stackCount = (item != null) ? 1 : 0;
+        invalidate();
         
         // ★ DEBUG: Print when item is set
         if (item != null) {
@@ -419,6 +426,7 @@ public class UIInventorySlot extends UIComponent {
         this.isNewItem = true;
         this.newItemTimer = NEW_ITEM_DURATION;
         this.newItemPulse = 0f;
+        invalidate();
         System.out.println("✨ Marked slot " + slotIndex + " as NEW");
     }
     
@@ -428,12 +436,14 @@ public class UIInventorySlot extends UIComponent {
     public void clearNewBadge() {
         this.isNewItem = false;
         this.newItemTimer = 0f;
+        invalidate();
     }
     
     public Item removeItem() {
         Item removed = this.item;
         this.item = null;
         this.stackCount = 0;
+        invalidate();
         return removed;
     }
     
@@ -528,6 +538,7 @@ public class UIInventorySlot extends UIComponent {
         } else {
             this.stackCount = 1;
         }
+        invalidate();
     }
 
     public boolean addToStack(int amount) {
@@ -540,6 +551,7 @@ public class UIInventorySlot extends UIComponent {
         
         if (newCount <= maxStack) {
             stackCount = newCount;
+            invalidate();
             return true;
         } else {
             return false;
@@ -549,6 +561,7 @@ public class UIInventorySlot extends UIComponent {
     public int removeFromStack(int amount) {
         int removed = Math.min(amount, stackCount);
         stackCount -= removed;
+        invalidate();
         
         if (stackCount <= 0) {
             removeItem();
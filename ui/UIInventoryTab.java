@@ -5,6 +5,8 @@ import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 
+import dev.main.render.Palette;
+
 /**
  * Tab component for inventory categories
  */
@@ -30,9 +32,9 @@ public class UIInventoryTab extends UIComponent {
         this.onClickCallback = null;
         
         // Colors
-        this.activeColor = new Color(80, 100, 120, 220);
-        this.inactiveColor = new Color(50, 50, 60, 180);
-        this.hoverColor = new Color(70, 80, 100, 200);
+        this.activeColor = Palette.color(80, 100, 120, 220);
+        this.inactiveColor = Palette.color(50, 50, 60, 180);
+        this.hoverColor = Palette.color(70, 80, 100, 200);
         this.textColor = Color.WHITE;
     }
     
@@ -56,11 +58,11 @@ public class UIInventoryTab extends UIComponent {
         
         // Draw border
         if (active) {
-            g.setColor(new Color(150, 170, 200));
-            g.setStroke(new java.awt.BasicStroke(2f));
+            g.setColor(Palette.color(150, 170, 200));
+            g.setStroke(Palette.stroke(2f));
         } else {
-            g.setColor(new Color(80, 80, 90));
-            g.setStroke(new java.awt.BasicStroke(1f));
+            g.setColor(Palette.color(80, 80, 90));
+            g.setStroke(Palette.stroke(1f));
         }
         g.drawRect(x, y, width, height);
         
@@ -76,11 +78,11 @@ public class UIInventoryTab extends UIComponent {
         int textY = y + (height + textHeight / 2) / 2 - 2;
         
         // Shadow
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(Palette.color(0, 0, 0, 150));
         g.drawString(tabName, textX + 1, textY + 1);
         
         // Text
-        Color finalTextColor = active ? Color.WHITE : new Color(180, 180, 180);
+        Color finalTextColor = active ? Color.WHITE : Palette.color(180, 180, 180);
         g.setColor(finalTextColor);
         g.drawString(tabName, textX, textY);
         
@@ -111,6 +113,7 @@ public class UIInventoryTab extends UIComponent {
     
     public void setActive(boolean active) {
         this.active = active;
+        invalidate();
     }
     
     public void setOnClick(Runnable callback) {
@@ -330,6 +330,7 @@ public class UIManager implements MouseWheelListener {
         skillBar.setBackgroundColor(new java.awt.Color(30, 30, 30, 220));
         skillBar.setBorderColor(new java.awt.Color(100, 100, 100, 255));
         skillBar.setBorderWidth(2);
+        skillBar.setRetained(true);  // ★ NEW: Repaints only on cooldowns / hover / skill changes
         
         String[] keys = {"1", "2", "3", "4", "Q", "E", "R", "F"};
         for (int i = 0; i < numSlots; i++) {
@@ -363,6 +364,7 @@ public class UIManager implements MouseWheelListener {
         verticalMenu.setLayout(UIPanel.LayoutType.VERTICAL);
         verticalMenu.setGap(gap);
         verticalMenu.setPadding(padding);
+        verticalMenu.setRetained(true);  // ★ NEW
         verticalMenu.setBackgroundColor(null);
         verticalMenu.setBorderColor(null);
         verticalMenu.setBorderWidth(0);
@@ -606,6 +608,7 @@ public class UIManager implements MouseWheelListener {
         inventoryContainer.setBackgroundColor(new java.awt.Color(20, 20, 30, 230));
         inventoryContainer.setBorderColor(new java.awt.Color(100, 100, 120));
         inventoryContainer.setBorderWidth(2);
+        inventoryContainer.setRetained(true);  // ★ NEW
         
         int currentY = containerY + padding;
         
@@ -1059,7 +1062,7 @@ public class UIManager implements MouseWheelListener {
                     Entity player = gameState.getPlayer();
                     gameLogic.useSkill(player, skill);
                 } else {
-                    skill.use();
+                    skill.use(gameState.getTimers());
                     System.out.println("Used skill: " + skill.getName());
                 }
             }
@@ -1,11 +1,18 @@
 package dev.main.ui;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.Composite;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 import java.util.List;
 
+import dev.main.render.Palette;
+import dev.main.sprite.SpriteAtlas;
+
 /**
  * ⭐ OPTIMIZED: Added batch mode to prevent cascading relayout calls
  */
@@ -37,6 +44,14 @@ public class UIPanel extends UIComponent {
     // ⭐ NEW: Batch mode
     private boolean batchMode = false;
     
+    // ★ NEW: Retained mode - output cached offscreen, repainted only when dirty
+    private static final int RETAINED_MARGIN = 16;  // room for badges drawn past the edges
+    private boolean retained = false;
+    private BufferedImage cache;
+    private int cacheX;
+    private int cacheY;
+    private long repaintCount = 0;
+    
     public UIPanel(int x, int y, int width, int height) {
         super(x, y, width, height);
         this.children = new ArrayList<>();
@@ -45,8 +60,8 @@ public class UIPanel extends UIComponent {
         this.columns = 1;
         this.rows = 1;
         
-        this.backgroundColor = new Color(40, 40, 40, 200);
-        this.borderColor = new Color(100, 100, 100, 255);
+        this.backgroundColor = Palette.color(40, 40, 40, 200);
+        this.borderColor = Palette.color(100, 100, 100, 255);
         this.borderWidth = 2;
         
         this.needsRelayout = false;
@@ -82,6 +97,7 @@ public class UIPanel extends UIComponent {
         if (!batchMode) {
             needsRelayout = true;
         }
+        invalidate();
     }
     
     // ════════════════════════════════════════════════════════════════
@@ -245,6 +261,14 @@ public class UIPanel extends UIComponent {
     public void render(Graphics2D g) {
         if (!visible) return;
         
+        if (retained) {
+            renderRetained(g);  // ★ NEW
+        } else {
+            renderDirect(g);
+        }
+    }
+    
+    private void renderDirect(Graphics2D g) {
         // Relayout only when dirty and visible
         if (needsRelayout) {
             relayout();
@@ -259,7 +283,7 @@ public class UIPanel extends UIComponent {
         // Draw border
         if (borderColor != null && borderWidth > 0) {
             g.setColor(borderColor);
-            g.setStroke(new java.awt.BasicStroke(borderWidth));
+            g.setStroke(Palette.stroke(borderWidth));
             g.drawRect(x, y, width, height);
         }
         
@@ -271,6 +295,97 @@ public class UIPanel extends UIComponent {
         }
     }
     
+    // ════════════════════════════════════════════════════════════════
+    // ★ NEW: RETAINED RENDERING
+    // ════════════════════════════════════════════════════════════════
+    
+    /**
+     * Cache this panel (and its children) in an offscreen image. render()
+     * then costs one blit per frame, plus a repaint only when something
+     * inside invalidated itself or is animating.
+     */
+    public void setRetained(boolean retained) {
+        this.retained = retained;
+        if (!retained) {
+            cache = null;
+        }
+        invalidate();
+    }
+    
+    public boolean isRetained() {
+        return retained;
+    }
+    
+    @Override
+    public boolean needsRepaint() {
+        if (super.needsRepaint()) return true;
+        for (int i = 0; i < children.size(); i++) {
+            if (children.get(i).needsRepaint()) return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void markPainted() {
+        super.markPainted();
+        for (int i = 0; i < children.size(); i++) {
+            children.get(i).markPainted();
+        }
+    }
+    
+    private void renderRetained(Graphics2D g) {
+        if (needsRelayout) {
+            relayout();
+        }
+        
+        // Cache covers the panel plus anything the children draw around it
+        int minX = x, minY = y, maxX = x + width, maxY = y + height;
+        for (int i = 0; i < children.size(); i++) {
+            UIComponent child = children.get(i);
+            minX = Math.min(minX, child.x);
+            minY = Math.min(minY, child.y);
+            maxX = Math.max(maxX, child.x + child.width);
+            maxY = Math.max(maxY, child.y + child.height);
+        }
+        minX -= RETAINED_MARGIN;
+        minY -= RETAINED_MARGIN;
+        int cacheWidth = maxX - minX + RETAINED_MARGIN + 1;
+        int cacheHeight = maxY - minY + RETAINED_MARGIN + 1;
+        
+        boolean repaint = needsRepaint();
+        if (cache == null || cache.getWidth() != cacheWidth || cache.getHeight() != cacheHeight) {
+            cache = SpriteAtlas.createCompatibleImage(cacheWidth, cacheHeight, Transparency.TRANSLUCENT);
+            repaint = true;
+        } else if (cacheX != minX || cacheY != minY) {
+            repaint = true;
+        }
+        cacheX = minX;
+        cacheY = minY;
+        
+        if (repaint) {
+            Graphics2D cg = cache.createGraphics();
+            Composite composite = cg.getComposite();
+            cg.setComposite(AlphaComposite.Clear);
+            cg.fillRect(0, 0, cacheWidth, cacheHeight);
+            cg.setComposite(composite);
+            
+            cg.setRenderingHints(g.getRenderingHints());
+            cg.setFont(g.getFont());
+            cg.translate(-cacheX, -cacheY);
+            renderDirect(cg);
+            cg.dispose();
+            
+            markPainted();
+            repaintCount++;
+        }
+        
+        g.drawImage(cache, cacheX, cacheY, null);
+    }
+    
+    public long getRepaintCount() {
+        return repaintCount;
+    }
+    
     @Override
     public void update(float delta) {
         if (!visible) return;
@@ -356,14 +471,17 @@ public class UIPanel extends UIComponent {
     
     public void setBackgroundColor(Color color) {
         this.backgroundColor = color;
+        invalidate();
     }
     
     public void setBorderColor(Color color) {
         this.borderColor = color;
+        invalidate();
     }
     
     public void setBorderWidth(int width) {
         this.borderWidth = width;
+        invalidate();
     }
     
     public List<UIComponent> getChildren() {
@@ -11,6 +11,7 @@ import dev.main.entity.Entity;
 import dev.main.entity.NPC;
 import dev.main.quest.QuestLog;
 import dev.main.quest.QuestObjective;
+import dev.main.render.Palette;
 import dev.main.state.GameState;
 
 /**
@@ -67,10 +68,10 @@ public class UIQuestPanel extends UIComponent {
         this.maxScrollY = 0;
         this.padding = 16;
         
-        this.backgroundColor = new Color(20, 20, 30, 240);
-        this.borderColor = new Color(150, 150, 180);
-        this.selectedColor = new Color(80, 100, 120, 200);
-        this.hoverColor = new Color(60, 80, 100, 150);
+        this.backgroundColor = Palette.color(20, 20, 30, 240);
+        this.borderColor = Palette.color(150, 150, 180);
+        this.selectedColor = Palette.color(80, 100, 120, 200);
+        this.hoverColor = Palette.color(60, 80, 100, 150);
         
         calculateLayout();
         createButtons();
@@ -246,20 +247,20 @@ public class UIQuestPanel extends UIComponent {
         
         // Draw border
         g.setColor(borderColor);
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(x, y, width, height);
         
         // Draw title
         Font originalFont = g.getFont();
         g.setFont(TITLE_FONT);
-        g.setColor(new Color(255, 215, 0));
+        g.setColor(Palette.color(255, 215, 0));
         g.drawString("Quest Log", x + padding, y + padding + 15);
         
         // Draw tabs
         renderTabs(g);
         
         // Draw separator
-        g.setColor(new Color(100, 100, 120));
+        g.setColor(Palette.color(100, 100, 120));
         g.drawLine(listX + listWidth + padding/2, listY, 
                    listX + listWidth + padding/2, listY + listHeight);
         
@@ -286,11 +287,11 @@ public class UIQuestPanel extends UIComponent {
     private void renderTabs(Graphics2D g) {
         // Highlight active tab
         if (showingActive) {
-            g.setColor(new Color(80, 100, 120, 220));
+            g.setColor(Palette.color(80, 100, 120, 220));
             g.fillRect(activeTabButton.getX(), activeTabButton.getY(), 
                       activeTabButton.getWidth(), activeTabButton.getHeight());
         } else {
-            g.setColor(new Color(80, 100, 120, 220));
+            g.setColor(Palette.color(80, 100, 120, 220));
             g.fillRect(completedTabButton.getX(), completedTabButton.getY(), 
                       completedTabButton.getWidth(), completedTabButton.getHeight());
         }
@@ -317,12 +318,12 @@ public class UIQuestPanel extends UIComponent {
             } else if (entry.hovered) {
                 g.setColor(hoverColor);
             } else {
-                g.setColor(new Color(40, 40, 50, 150));
+                g.setColor(Palette.color(40, 40, 50, 150));
             }
             g.fillRect(listX, entryY, listWidth, 58);
             
             // Draw quest name
-            g.setColor(new Color(255, 215, 0));
+            g.setColor(Palette.color(255, 215, 0));
             g.drawString(entry.quest.getName(), listX + 8, entryY + 20);
             
             // Draw progress bar
@@ -334,21 +335,21 @@ public class UIQuestPanel extends UIComponent {
             int barY = entryY + 35;
             
             // Bar background
-            g.setColor(new Color(60, 60, 60));
+            g.setColor(Palette.color(60, 60, 60));
             g.fillRect(barX, barY, barWidth, barHeight);
             
             // Bar fill
             int fillWidth = (int)(barWidth * progress);
-            g.setColor(new Color(100, 200, 100));
+            g.setColor(Palette.color(100, 200, 100));
             g.fillRect(barX, barY, fillWidth, barHeight);
             
             // Progress text
-            g.setColor(new Color(200, 200, 200));
+            g.setColor(Palette.color(200, 200, 200));
             String progressText = (int)(progress * 100) + "%";
             g.drawString(progressText, listX + 8, entryY + 52);
             
             // Draw border
-            g.setColor(new Color(80, 80, 90));
+            g.setColor(Palette.color(80, 80, 90));
             g.drawRect(listX, entryY, listWidth, 58);
         }
         
@@ -361,13 +362,13 @@ public class UIQuestPanel extends UIComponent {
         
         // Quest name
         g.setFont(QUEST_NAME_FONT);
-        g.setColor(new Color(255, 215, 0));
+        g.setColor(Palette.color(255, 215, 0));
         g.drawString(quest.getName(), detailX + 8, currentY + 15);
         currentY += 30;
         
         // Description
         g.setFont(QUEST_DESC_FONT);
-        g.setColor(new Color(200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200));
         String[] descLines = wrapText(g, quest.getDescription(), detailWidth - 16);
         for (String line : descLines) {
             g.drawString(line, detailX + 8, currentY);
@@ -378,7 +379,7 @@ public class UIQuestPanel extends UIComponent {
         
         // Objectives
         g.setFont(OBJECTIVE_FONT);
-        g.setColor(new Color(180, 180, 180));
+        g.setColor(Palette.color(180, 180, 180));
         g.drawString("Objectives:", detailX + 8, currentY);
         currentY += 18;
         
@@ -386,10 +387,10 @@ public class UIQuestPanel extends UIComponent {
             String objText = "• " + obj.getDescription();
             if (obj.isComplete()) {
                 objText += " ✓";
-                g.setColor(new Color(100, 200, 100));
+                g.setColor(Palette.color(100, 200, 100));
             } else {
                 objText += " (" + obj.getCurrentProgress() + "/" + obj.getRequiredAmount() + ")";
-                g.setColor(new Color(200, 200, 200));
+                g.setColor(Palette.color(200, 200, 200));
             }
             g.drawString(objText, detailX + 16, currentY);
             currentY += 16;
@@ -399,11 +400,11 @@ public class UIQuestPanel extends UIComponent {
         
         // Rewards
         if (quest.getExpReward() > 0 || quest.getAurelReward() > 0 || !quest.getItemRewards().isEmpty()) {
-            g.setColor(new Color(180, 180, 180));
+            g.setColor(Palette.color(180, 180, 180));
             g.drawString("Rewards:", detailX + 8, currentY);
             currentY += 18;
             
-            g.setColor(new Color(100, 255, 100));
+            g.setColor(Palette.color(100, 255, 100));
             
             if (quest.getExpReward() > 0) {
                 g.drawString("• " + quest.getExpReward() + " XP", detailX + 16, currentY);
@@ -424,7 +425,7 @@ public class UIQuestPanel extends UIComponent {
     
     private void renderNoQuestSelected(Graphics2D g) {
         g.setFont(QUEST_DESC_FONT);
-        g.setColor(new Color(150, 150, 150));
+        g.setColor(Palette.color(150, 150, 150));
         
         String message = showingActive ? 
             "Select a quest to view details" : 
@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import dev.main.item.Item;
+import dev.main.render.Palette;
 
 /**
  * REFACTORED: All tabs share same inventory slots
@@ -63,6 +64,8 @@ public class UIScrollableInventoryPanel extends UIComponent {
     private int cachedLastVisibleRow = -1;
     private int lastScrollOffsetY = -1;
     
+    private long paintedSignature = 0;  // ★ NEW: contentSignature() at the last retained paint
+    
     public UIScrollableInventoryPanel(int x, int y, int width, int height, 
                                       int columns, int totalRows, int visibleRows, UIManager uiManager) {
         super(x, y, width, height);
@@ -84,10 +87,10 @@ public class UIScrollableInventoryPanel extends UIComponent {
         this.mouseOverScrollbar = false;
         
         // Colors
-        this.backgroundColor = new Color(20, 20, 30, 230);
-        this.borderColor = new Color(100, 100, 120);
-        this.scrollbarColor = new Color(40, 40, 50, 200);
-        this.scrollbarThumbColor = new Color(120, 120, 140, 255);
+        this.backgroundColor = Palette.color(20, 20, 30, 230);
+        this.borderColor = Palette.color(100, 100, 120);
+        this.scrollbarColor = Palette.color(40, 40, 50, 200);
+        this.scrollbarThumbColor = Palette.color(120, 120, 140, 255);
         
         // Calculate slot size
         int availableWidth = width - (padding * 2) - (gap * (columns - 1));
@@ -530,7 +533,7 @@ public class UIScrollableInventoryPanel extends UIComponent {
         
         // Draw border
         g.setColor(borderColor);
-        g.setStroke(new java.awt.BasicStroke(2));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(x, y, width, height);
         
         // Create clipping region
@@ -574,7 +577,7 @@ public class UIScrollableInventoryPanel extends UIComponent {
     private void drawItemCount(Graphics2D g, int count) {
         String countText = count + " / " + sharedInventory.length;
         
-        g.setFont(new java.awt.Font("Arial", java.awt.Font.PLAIN, 10));
+        g.setFont(Palette.font("Arial", java.awt.Font.PLAIN, 10));
         java.awt.FontMetrics fm = g.getFontMetrics();
         int textWidth = fm.stringWidth(countText);
         
@@ -582,11 +585,11 @@ public class UIScrollableInventoryPanel extends UIComponent {
         int textY = y + height - 4;
         
         // Shadow
-        g.setColor(new Color(0, 0, 0, 150));
+        g.setColor(Palette.color(0, 0, 0, 150));
         g.drawString(countText, textX + 1, textY + 1);
         
         // Text
-        g.setColor(new Color(180, 180, 180));
+        g.setColor(Palette.color(180, 180, 180));
         g.drawString(countText, textX, textY);
     }
     
@@ -607,17 +610,58 @@ public class UIScrollableInventoryPanel extends UIComponent {
         
         // Scrollbar background
         int bgAlpha = (int)(scrollbarAlpha * 150);
-        g.setColor(new Color(scrollbarColor.getRed(), scrollbarColor.getGreen(), 
-                            scrollbarColor.getBlue(), bgAlpha));
+        g.setColor(Palette.withAlpha(scrollbarColor, bgAlpha));
         g.fillRoundRect(scrollbarX, scrollbarY, scrollbarWidth, scrollbarHeight, 4, 4);
         
         // Thumb
         int thumbAlpha = (int)(scrollbarAlpha * 255);
-        g.setColor(new Color(scrollbarThumbColor.getRed(), scrollbarThumbColor.getGreen(), 
-                            scrollbarThumbColor.getBlue(), thumbAlpha));
+        g.setColor(Palette.withAlpha(scrollbarThumbColor, thumbAlpha));
         g.fillRoundRect(scrollbarX, thumbY, scrollbarWidth, thumbHeight, 4, 4);
     }
     
+    // ════════════════════════════════════════════════════════════════
+    // ★ NEW: DIRTY TRACKING
+    // Stacks are shared with UIManager and change outside this panel, so
+    // instead of invalidating from every caller, fingerprint what render() reads
+    // ════════════════════════════════════════════════════════════════
+    
+    @Override
+    public boolean isAnimating() {
+        return showScrollbar && scrollbarAlpha > 0;  // fading scrollbar
+    }
+    
+    @Override
+    public boolean needsRepaint() {
+        if (super.needsRepaint() || contentSignature() != paintedSignature) return true;
+        for (int i = 0; i < slots.size(); i++) {
+            if (slots.get(i).needsRepaint()) return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public void markPainted() {
+        super.markPainted();
+        for (int i = 0; i < slots.size(); i++) {
+            slots.get(i).markPainted();
+        }
+        paintedSignature = contentSignature();
+    }
+    
+    private long contentSignature() {
+        long h = scrollOffsetY * 31L + currentTab.hashCode();
+        h = h * 31 + (mouseOverScrollbar ? 1 : 0);
+        for (ItemStack stack : sharedInventory) {
+            if (stack == null || stack.getItem() == null) {
+                h = h * 31;
+                continue;
+            }
+            h = h * 31 + System.identityHashCode(stack.getItem());
+            h = h * 31 + stack.getStackCount();
+        }
+        return h;
+    }
+    
     /**
      * Update (FIXED to use ItemStack)
      */
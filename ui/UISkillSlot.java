@@ -1,12 +1,12 @@
 package dev.main.ui;
 
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.image.BufferedImage;
 
+import dev.main.render.Palette;
 import dev.main.skill.Skill;
 import dev.main.sprite.TextureManager;
 
@@ -28,6 +28,8 @@ public class UISkillSlot extends UIComponent {
     private UIManager uiManager;
     private int slotIndex;
     
+    private int paintedSkillLevel = -1;  // ★ NEW: Upgrades happen on the Skill, not through the slot
+    
     // Visual properties
     private Color emptyColor;
     private Color hoverColor;
@@ -44,10 +46,10 @@ public class UISkillSlot extends UIComponent {
         this.uiManager = null;
         this.slotIndex = -1;
         
-        this.emptyColor = new Color(60, 60, 60, 200);
-        this.hoverColor = new Color(100, 100, 100, 255);
-        this.cooldownColor = new Color(0, 0, 0, 150);
-        this.keybindBgColor = new Color(0, 0, 0, 180);
+        this.emptyColor = Palette.color(60, 60, 60, 200);
+        this.hoverColor = Palette.color(100, 100, 100, 255);
+        this.cooldownColor = Palette.color(0, 0, 0, 150);
+        this.keybindBgColor = Palette.color(0, 0, 0, 180);
     }
     
     public UISkillSlot(int x, int y, int size, String keyBinding) {
@@ -68,8 +70,8 @@ public class UISkillSlot extends UIComponent {
         g.fillRect(x, y, width, height);
         
         // Draw border
-        g.setColor(hovered ? Color.WHITE : new Color(100, 100, 100));
-        g.setStroke(new BasicStroke(2));
+        g.setColor(hovered ? Color.WHITE : Palette.color(100, 100, 100));
+        g.setStroke(Palette.stroke(2));
         g.drawRect(x, y, width, height);
         
         if (skill != null) {
@@ -95,7 +97,7 @@ public class UISkillSlot extends UIComponent {
             drawSkillLevel(g);
         } else {
             // Draw empty slot indicator
-            g.setColor(new Color(150, 150, 150, 100));
+            g.setColor(Palette.color(150, 150, 150, 100));
             int size = width / 3;
             int centerX = x + width / 2 - size / 2;
             int centerY = y + height / 2 - size / 2;
@@ -110,7 +112,7 @@ public class UISkillSlot extends UIComponent {
         
         // Draw hover effect
         if (hovered && skill != null) {
-            g.setColor(new Color(255, 255, 255, 50));
+            g.setColor(Palette.color(255, 255, 255, 50));
             g.fillRect(x, y, width, height);
         }
     }
@@ -165,7 +167,7 @@ public class UISkillSlot extends UIComponent {
         g.fillRect(bgX, bgY, bgSize, bgSize);
         
         // Border
-        g.setColor(new Color(200, 200, 200));
+        g.setColor(Palette.color(200, 200, 200));
         g.drawRect(bgX, bgY, bgSize, bgSize);
         
         // Text
@@ -194,7 +196,7 @@ public class UISkillSlot extends UIComponent {
         int bgY = y + 2;
         
         // Background
-        g.setColor(new Color(0, 0, 0, 180));
+        g.setColor(Palette.color(0, 0, 0, 180));
         g.fillRect(bgX, bgY, bgWidth, bgHeight);
         
         // Text
@@ -203,7 +205,7 @@ public class UISkillSlot extends UIComponent {
         
         Color levelColor;
         if (skill.isMaxLevel()) {
-            levelColor = new Color(255, 215, 0);
+            levelColor = Palette.color(255, 215, 0);
         } else {
             levelColor = Color.WHITE;
         }
@@ -216,9 +218,25 @@ public class UISkillSlot extends UIComponent {
     
     @Override
     public void update(float delta) {
-        if (skill != null) {
-            skill.update(delta);
-        }
+        // ★ UPDATED: Skill cooldowns run on the game timer wheel
+    }
+    
+    // ★ NEW: The cooldown sweep and countdown change every frame
+    @Override
+    public boolean isAnimating() {
+        return skill != null && !skill.isReady();
+    }
+    
+    @Override
+    public boolean needsRepaint() {
+        int level = skill != null ? skill.getSkillLevel() : -1;
+        return super.needsRepaint() || level != paintedSkillLevel;
+    }
+    
+    @Override
+    public void markPainted() {
+        super.markPainted();
+        paintedSkillLevel = skill != null ? skill.getSkillLevel() : -1;
     }
     
     @Override
@@ -289,10 +307,10 @@ public class UISkillSlot extends UIComponent {
     
     // Getters/Setters
     public Skill getSkill() { return skill; }
-    public void setSkill(Skill skill) { this.skill = skill; }
+    public void setSkill(Skill skill) { this.skill = skill; invalidate(); }
     public String getKeyBinding() { return keyBinding; }
-    public void setKeyBinding(String keyBinding) { this.keyBinding = keyBinding; }
-    public void setShowCooldown(boolean show) { this.showCooldown = show; }
-    public void setShowKeybind(boolean show) { this.showKeybind = show; }
+    public void setKeyBinding(String keyBinding) { this.keyBinding = keyBinding; invalidate(); }
+    public void setShowCooldown(boolean show) { this.showCooldown = show; invalidate(); }
+    public void setShowKeybind(boolean show) { this.showKeybind = show; invalidate(); }
     public int getSlotIndex() { return slotIndex; }
 }
\ No newline at end of file
@@ -1,10 +1,16 @@
 package dev.main.ui;
 
+import java.awt.AlphaComposite;
+import java.awt.Composite;
 import java.awt.Graphics2D;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
 
 import dev.main.entity.Entity;
 import dev.main.entity.Experience;
+import dev.main.render.Palette;
 import dev.main.skill.SkillLevel;
+import dev.main.sprite.SpriteAtlas;
 import dev.main.state.GameState;
 import dev.main.stats.Stats;
 
@@ -22,6 +28,11 @@ public class UIStatsPanel extends UIComponent {
     private GameState gameState;
     private boolean visible = false;
 
+    // ★ NEW: Retained - painted into cache, repainted only when a shown value changes
+    private BufferedImage cache;
+    private long paintedSignature = 0;  // contentSignature() at the last paint
+    private long repaintCount = 0;
+
     public UIStatsPanel(int x, int y, int width, int height, GameState gameState) {
         super(x, y, width, height);
         this.gameState = gameState;
@@ -34,16 +45,97 @@ public class UIStatsPanel extends UIComponent {
 
     public void setVisible(boolean visible) {
         this.visible = visible;
+        invalidate();
     }
 
     public boolean isVisible() {
         return visible;
     }
 
+    @Override
+    public boolean needsRepaint() {
+        return super.needsRepaint() || contentSignature() != paintedSignature;
+    }
+
+    @Override
+    public void markPainted() {
+        super.markPainted();
+        paintedSignature = contentSignature();
+    }
+
+    // Every value the panel prints, as displayed (XP and stamina truncated)
+    private long contentSignature() {
+        Entity player = gameState.getPlayer();
+        if (player == null) return 0;
+
+        long h = System.identityHashCode(player);
+        Experience exp = player.getComponent(Experience.class);
+        if (exp != null) {
+            h = h * 31 + exp.level;
+            h = h * 31 + (int)exp.currentXP;
+            h = h * 31 + (int)exp.xpToNextLevel;
+        }
+        SkillLevel skillLevel = player.getComponent(SkillLevel.class);
+        if (skillLevel != null) {
+            h = h * 31 + skillLevel.availablePoints;
+        }
+        Stats stats = player.getComponent(Stats.class);
+        if (stats != null) {
+            h = h * 31 + stats.hp;
+            h = h * 31 + stats.maxHp;
+            h = h * 31 + stats.mana;
+            h = h * 31 + stats.maxMana;
+            h = h * 31 + (int)stats.stamina;
+            h = h * 31 + (int)stats.getMaxStamina();
+            h = h * 31 + stats.attack;
+            h = h * 31 + stats.defense;
+            h = h * 31 + stats.magicAttack;
+            h = h * 31 + stats.magicDefense;
+        }
+        return h;
+    }
+
+    /**
+     * ★ UPDATED: Blits the cached panel; the text is redrawn only when a shown value changes
+     */
     @Override
     public void render(Graphics2D g) {
+        // drawRect's right/bottom edge lands one pixel past width/height
+        int cacheWidth = width + 1;
+        int cacheHeight = height + 1;
+
+        boolean repaint = needsRepaint();
+        if (cache == null || cache.getWidth() != cacheWidth || cache.getHeight() != cacheHeight) {
+            cache = SpriteAtlas.createCompatibleImage(cacheWidth, cacheHeight, Transparency.TRANSLUCENT);
+            repaint = true;
+        }
+
+        if (repaint) {
+            Graphics2D cg = cache.createGraphics();
+            Composite composite = cg.getComposite();
+            cg.setComposite(AlphaComposite.Clear);
+            cg.fillRect(0, 0, cacheWidth, cacheHeight);
+            cg.setComposite(composite);
+
+            cg.setRenderingHints(g.getRenderingHints());
+            cg.translate(-x, -y);
+            paint(cg);
+            cg.dispose();
+
+            markPainted();
+            repaintCount++;
+        }
+
+        g.drawImage(cache, x, y, null);
+    }
+
+    public long getRepaintCount() {
+        return repaintCount;
+    }
+
+    private void paint(Graphics2D g) {
         // Background
-        g.setColor(new Color(40, 40, 40, 220));
+        g.setColor(Palette.color(40, 40, 40, 220));
         g.fillRect(x, y, width, height);
 
         // Border
@@ -2,20 +2,14 @@ package dev.main.util;
 
 import dev.main.input.Component;
 
+/**
+ * Marks an entity as dead. ★ UPDATED: Corpse removal is scheduled on the
+ * GameState timer wheel when this is added - nothing counts down per tick.
+ */
 public class Dead implements Component {
-    public float deathTimer;
     public float corpseLifetime;
     
     public Dead(float corpseLifetime) {
-        this.deathTimer = 0;
         this.corpseLifetime = corpseLifetime;
     }
-    
-    public void update(float delta) {
-        deathTimer += delta;
-    }
-    
-    public boolean shouldRemove() {
-        return deathTimer >= corpseLifetime;
-    }
 }
\ No newline at end of file
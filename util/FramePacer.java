@@ -0,0 +1,137 @@
+package dev.main.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * ★ NEW: Hybrid sleep/spin pacer for the game loops.
+ *
+ * Thread.sleep(1) oversleeps (~1.1ms+ on Linux) and drifts, so we park for
+ * the bulk of the wait and spin only for the last few hundred microseconds.
+ * Deadlines advance by a fixed interval, so small oversleeps don't add up.
+ */
+public class FramePacer {
+
+    public enum Mode {
+        CAPPED,     // fixed target rate
+        UNCAPPED,   // never waits
+        VSYNC       // target = display refresh rate (caller passes it in)
+    }
+
+    // Park wake-ups are typically 50-100us late; spin for the last stretch
+    private static final long SPIN_THRESHOLD_NANOS = 200_000L;
+
+    private volatile Mode mode;
+    private volatile long intervalNanos;
+    private volatile boolean restart;  // set by setTarget(), consumed by sync()
+    private long nextDeadline;         // pacing thread only
+
+    // Jitter = how late we woke up versus the deadline
+    private int samples;
+    private long totalLatenessNanos;
+    private long maxLatenessNanos;
+    private int missedDeadlines;
+
+    public FramePacer(Mode mode, double rate) {
+        setTarget(mode, rate);
+    }
+
+    /**
+     * Change mode/rate; takes effect on the next sync(). Safe from any thread -
+     * the schedule itself is only restarted by the thread calling sync().
+     */
+    public void setTarget(Mode mode, double rate) {
+        this.mode = mode;
+        this.intervalNanos = (mode == Mode.UNCAPPED || rate <= 0) ? 0L : (long)(1_000_000_000.0 / rate);
+        this.restart = true;
+    }
+
+    /**
+     * Wait for the next slot. Call once per loop iteration, after the work.
+     * @return wake-up time (System.nanoTime())
+     */
+    public long sync() {
+        if (restart) {
+            restart = false;
+            nextDeadline = 0L;
+        }
+
+        long interval = intervalNanos;
+        if (interval == 0L) {
+            return System.nanoTime();  // uncapped
+        }
+
+        if (nextDeadline == 0L) {
+            nextDeadline = System.nanoTime() + interval;
+        }
+
+        waitUntil(nextDeadline);
+
+        long wake = System.nanoTime();
+        long lateness = wake - nextDeadline;
+        recordLateness(lateness, interval);
+
+        nextDeadline += interval;
+
+        // Hitch: more than a whole slot behind - restart the schedule instead of bursting
+        if (wake - nextDeadline > interval) {
+            nextDeadline = wake + interval;
+        }
+        return wake;
+    }
+
+    /**
+     * Park, then spin, until System.nanoTime() reaches deadline
+     */
+    public static void waitUntil(long deadlineNanos) {
+        while (true) {
+            long remaining = deadlineNanos - System.nanoTime();
+            if (remaining <= 0L || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void recordLateness(long lateness, long interval) {
+        samples++;
+        totalLatenessNanos += lateness;
+        if (lateness > maxLatenessNanos) {
+            maxLatenessNanos = lateness;
+        }
+        if (lateness >= interval) {
+            missedDeadlines++;
+        }
+    }
+
+    public float getAverageJitterMillis() {
+        return samples == 0 ? 0f : (totalLatenessNanos / (float)samples) / 1_000_000f;
+    }
+
+    public float getMaxJitterMillis() {
+        return maxLatenessNanos / 1_000_000f;
+    }
+
+    public int getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void resetStats() {
+        samples = 0;
+        totalLatenessNanos = 0L;
+        maxLatenessNanos = 0L;
+        missedDeadlines = 0;
+    }
+
+    public String getStatsString() {
+        return String.format("%s jitter avg %.3fms max %.3fms missed %d",
+                             mode, getAverageJitterMillis(), getMaxJitterMillis(), missedDeadlines);
+    }
+}
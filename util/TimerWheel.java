@@ -0,0 +1,240 @@
+package dev.main.util;
+
+/**
+ * ★ NEW: Hierarchical timing wheel on the game clock.
+ *
+ * Four levels of 64 slots; level 0 slots are one JIFFY (10ms) wide, each
+ * level above is 64x coarser, so delays up to ~46h are O(1) to schedule and
+ * cancel. A timer sits in the level its remaining time falls into and is
+ * cascaded one level down when that slot comes round, so advance() only
+ * touches timers that are actually due (plus an occasional cascade) - a
+ * pending timer costs nothing per tick.
+ *
+ * The clock only moves in advance(), i.e. with the simulation. Zone thread only:
+ * once advanced, scheduling or cancelling from any other thread throws, and
+ * timers that follow an entity into another zone go through detach()/attach().
+ */
+public class TimerWheel {
+
+    public static final float JIFFY = 0.01f;  // seconds per level-0 slot
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELAY = (1L << (SLOT_BITS * LEVELS)) - 1;  // in jiffies
+
+    /**
+     * A reusable timer. Schedule it again to restart it; the callback (may be
+     * null for pure cooldowns) runs on the zone thread when it expires.
+     */
+    public static final class Timer {
+        private final Runnable callback;
+
+        private TimerWheel wheel;
+        private long deadline;
+        private int slot = -1;  // index into slots, -1 = not linked
+        private Timer prev;
+        private Timer next;
+        private boolean fired = false;
+        private float detachedRemaining = -1f;  // >= 0 while between wheels (zone hand-off)
+
+        public Timer() {
+            this(null);
+        }
+
+        public Timer(Runnable callback) {
+            this.callback = callback;
+        }
+
+        public boolean isPending() {
+            return slot >= 0 || detachedRemaining >= 0f;
+        }
+
+        /**
+         * True once expired, until scheduled again or cancelled
+         */
+        public boolean hasFired() {
+            return fired;
+        }
+
+        /**
+         * Seconds until expiry (0 if not pending)
+         */
+        public float getRemaining() {
+            if (detachedRemaining >= 0f) return detachedRemaining;
+            if (slot < 0) return 0f;
+            return (float)Math.max(0.0, deadline * (double)JIFFY - wheel.time);
+        }
+
+        public void cancel() {
+            fired = false;
+            detachedRemaining = -1f;
+            if (slot >= 0) {
+                wheel.checkOwner();
+                wheel.unlink(this);
+                wheel.pending--;
+            }
+        }
+
+        /**
+         * Take a pending timer off its wheel, keeping the time left, so another
+         * wheel can attach() it. Call on the current wheel's thread.
+         */
+        public void detach() {
+            if (slot < 0) return;
+            float remaining = getRemaining();
+            cancel();
+            detachedRemaining = remaining;
+        }
+    }
+
+    private final Timer[] slots = new Timer[SLOTS * LEVELS];
+
+    private double time = 0.0;  // game clock, seconds
+    private long current = 0;   // last processed jiffy
+
+    private int pending = 0;
+    private long firedCount = 0;
+
+    // Thread that last advanced the clock (null until the first tick)
+    private volatile Thread owner;
+
+    /**
+     * (Re)start timer to expire delaySeconds from now
+     */
+    public void schedule(Timer timer, float delaySeconds) {
+        checkOwner();
+        timer.cancel();
+
+        long delay = (long)Math.ceil((time + delaySeconds) / JIFFY) - current;
+        timer.wheel = this;
+        timer.deadline = current + Math.max(1, Math.min(MAX_DELAY, delay));
+        insert(timer);
+        pending++;
+    }
+
+    /**
+     * Schedule a detached timer (Timer.detach) for the time it had left.
+     * No-op if it wasn't detached.
+     */
+    public void attach(Timer timer) {
+        if (timer.detachedRemaining < 0f) return;
+        float remaining = timer.detachedRemaining;
+        timer.detachedRemaining = -1f;
+        schedule(timer, remaining);
+    }
+
+    /**
+     * One-shot callback. Returns the timer so it can be cancelled.
+     */
+    public Timer schedule(float delaySeconds, Runnable callback) {
+        Timer timer = new Timer(callback);
+        schedule(timer, delaySeconds);
+        return timer;
+    }
+
+    /**
+     * Move the clock forward and fire everything that came due
+     */
+    public void advance(float delta) {
+        owner = Thread.currentThread();
+        time += delta;
+        long target = (long)(time / JIFFY);
+
+        while (current < target) {
+            current++;
+
+            // Slot 0 of a level comes round: pull the next coarser slot down
+            for (int level = 1; level < LEVELS; level++) {
+                if ((current & ((1L << (SLOT_BITS * level)) - 1)) != 0) break;
+                cascade(level, (int)((current >>> (SLOT_BITS * level)) & SLOT_MASK));
+            }
+
+            fireSlot((int)(current & SLOT_MASK));
+        }
+    }
+
+    private void fireSlot(int index) {
+        Timer timer;
+        while ((timer = slots[index]) != null) {
+            unlink(timer);
+            pending--;
+            firedCount++;
+            timer.fired = true;
+            if (timer.callback != null) {
+                timer.callback.run();  // may schedule more timers
+            }
+        }
+    }
+
+    private void cascade(int level, int slotIndex) {
+        int index = level * SLOTS + slotIndex;
+        Timer timer = slots[index];
+        slots[index] = null;
+
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.slot = -1;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        long remaining = timer.deadline - current;
+
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = level * SLOTS + (int)((timer.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+
+        Timer head = slots[index];
+        timer.slot = index;
+        timer.prev = null;
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        slots[index] = timer;
+    }
+
+    // Another zone's thread would corrupt the slot lists while we advance them
+    private void checkOwner() {
+        Thread o = owner;
+        if (o != null && o != Thread.currentThread()) {
+            throw new IllegalStateException("TimerWheel of " + o.getName()
+                                            + " used from " + Thread.currentThread().getName());
+        }
+    }
+
+    private void unlink(Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            slots[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.slot = -1;
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    /**
+     * Game time in seconds since this wheel was created
+     */
+    public double now() {
+        return time;
+    }
+
+    public int getPendingCount() {
+        return pending;
+    }
+
+    public String getStatsString() {
+        return String.format("Timers: %d pending, %d fired", pending, firedCount);
+    }
+}